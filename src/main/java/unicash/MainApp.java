@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import unicash.commons.core.Config;
@@ -16,15 +17,20 @@ import unicash.commons.util.ConfigUtil;
 import unicash.commons.util.StringUtil;
 import unicash.logic.Logic;
 import unicash.logic.LogicManager;
+import unicash.model.DeferredTransactions;
 import unicash.model.Model;
 import unicash.model.ModelManager;
-import unicash.model.ReadOnlyUniCash;
+import unicash.model.PartialUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
 import unicash.model.UserPrefs;
+import unicash.model.transaction.TransactionList;
 import unicash.model.util.SampleDataUtil;
+import unicash.storage.BinaryUniCashStorage;
+import unicash.storage.JournalUniCashStorage;
 import unicash.storage.JsonUniCashStorage;
 import unicash.storage.JsonUserPrefsStorage;
+import unicash.storage.PartitionedUniCashStorage;
 import unicash.storage.Storage;
 import unicash.storage.StorageManager;
 import unicash.storage.UniCashStorage;
@@ -47,6 +53,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private DeferredTransactions deferredTransactions = null;
+
     private final Path customStoragePath;
 
     public MainApp(Path customStoragePath) {
@@ -71,46 +79,100 @@ public class MainApp extends Application {
         if (customStoragePath != null) {
             userPrefs.setUniCashFilePath(customStoragePath);
         }
-        UniCashStorage uniCashStorage = new JsonUniCashStorage(userPrefs.getUniCashFilePath());
+        UniCashStorage uniCashStorage = initUniCashStorage(userPrefs);
         storage = new StorageManager(uniCashStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code UniCashStorage} for the data file in {@code userPrefs}, which keeps the data
+     * in the storage format chosen in {@code userPrefs}.
+     */
+    private UniCashStorage initUniCashStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file format : " + userPrefs.getUniCashStorageFormat());
+        switch (userPrefs.getUniCashStorageFormat()) {
+        case JOURNAL:
+            return new JournalUniCashStorage(userPrefs.getUniCashFilePath());
+        case BINARY:
+            return BinaryUniCashStorage.convertedFromJson(userPrefs.getUniCashFilePath());
+        case PARTITIONED:
+            return PartitionedUniCashStorage.convertedFromJson(userPrefs.getUniCashFilePath());
+        case JSON:
+        default:
+            return new JsonUniCashStorage(userPrefs.getUniCashFilePath());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s UniCash and {@code userPrefs}. <br>
      * The data from the sample UniCash will be used instead if {@code storage}'s UniCash is not found,
-     * or an empty UniCash will be used instead if errors occur when reading {@code storage}'s UniCash.
+     * or an empty UniCash will be used instead if errors occur when reading {@code storage}'s UniCash. <br>
+     * Only the most recent transactions are loaded if {@code config} says so, and the older ones
+     * are left in {@code deferredTransactions} to be loaded once the app has started.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getUniCashFilePath());
 
-        Optional<ReadOnlyUniCash> uniCashOptional;
-        ReadOnlyUniCash initialData;
+        Optional<PartialUniCash> uniCashOptional;
+        PartialUniCash initialData;
+        boolean isNewDataFile = false;
         try {
-            uniCashOptional = storage.readUniCash();
+            int initialTransactionCount = config.getInitialTransactionCount();
+            uniCashOptional = initialTransactionCount < 0
+                    ? storage.readUniCash().map(PartialUniCash::new)
+                    : storage.readPartialUniCash(initialTransactionCount);
             if (uniCashOptional.isEmpty()) {
+                isNewDataFile = true;
                 logger.info("Creating a new data file " + storage.getUniCashFilePath()
                         + " populated with a sample UniCash.");
             }
-            initialData = uniCashOptional.orElseGet(SampleDataUtil::getSampleUniCash);
+            initialData = uniCashOptional.orElseGet(() -> new PartialUniCash(SampleDataUtil.getSampleUniCash()));
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getUniCashFilePath() + " could not be loaded."
                     + " Will be starting with an empty UniCash.");
-            initialData = new UniCash();
+            initialData = new PartialUniCash(new UniCash());
+        }
+
+        Model initializedModel = new ModelManager(initialData.loadedData, userPrefs, initMaxTransactions(config));
+        if (!initialData.isFullyLoaded()) {
+            logger.info(initialData.deferredTransactions.size() + " older transactions will be loaded later.");
+            deferredTransactions = initialData.deferredTransactions;
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // Commands only save data after changing it, so a new data file has to be written out now
+        if (isNewDataFile) {
+            try {
+                storage.saveUniCash(initializedModel.getUniCash());
+            } catch (IOException e) {
+                logger.warning("Failed to save new data file : " + StringUtil.getDetails(e));
+            }
+        }
+        return initializedModel;
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Returns the maximum number of transactions in {@code config}, or the default if that one is out of range.
+     */
+    private int initMaxTransactions(Config config) {
+        int maxTransactions = config.getMaxTransactionCount();
+        if (maxTransactions <= 0 || maxTransactions > TransactionList.MAX_TRANSACTIONS_LIMIT) {
+            logger.warning("Maximum number of transactions " + maxTransactions + " in the config is ignored. "
+                    + TransactionList.MESSAGE_INVALID_MAX_TRANSACTIONS);
+            return TransactionList.DEFAULT_MAX_TRANSACTIONS;
+        }
+        logger.info("Maximum number of transactions : " + maxTransactions);
+        return maxTransactions;
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -190,11 +252,18 @@ public class MainApp extends Application {
         Font.loadFont(getClass().getResourceAsStream("/fonts/Inter-Bold.ttf"), 12);
         Font.loadFont(getClass().getResourceAsStream("/fonts/Inter-SemiBold.ttf"), 12);
         ui.start(primaryStage);
+
+        // Older transactions are only loaded once the window is showing the most recent ones
+        if (deferredTransactions != null) {
+            logic.loadDeferredTransactions(deferredTransactions);
+            deferredTransactions = null;
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping UniCa$h ] =============================");
+        logic.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,11 +13,20 @@ import unicash.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_INITIAL_TRANSACTION_COUNT = 1000;
+    public static final int DEFAULT_MAX_TRANSACTION_COUNT = 100000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
+    // The number of most recent transactions loaded before the window is shown, the rest being
+    // loaded in the background. A negative count loads every transaction before the window is shown.
+    private int initialTransactionCount = DEFAULT_INITIAL_TRANSACTION_COUNT;
+
+    // The maximum number of transactions UniCash holds
+    private int maxTransactionCount = DEFAULT_MAX_TRANSACTION_COUNT;
+
     public Level getLogLevel() {
         return logLevel;
     }
@@ -34,6 +43,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getInitialTransactionCount() {
+        return initialTransactionCount;
+    }
+
+    public void setInitialTransactionCount(int initialTransactionCount) {
+        this.initialTransactionCount = initialTransactionCount;
+    }
+
+    public int getMaxTransactionCount() {
+        return maxTransactionCount;
+    }
+
+    public void setMaxTransactionCount(int maxTransactionCount) {
+        this.maxTransactionCount = maxTransactionCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +72,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && initialTransactionCount == otherConfig.initialTransactionCount
+                && maxTransactionCount == otherConfig.maxTransactionCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, initialTransactionCount, maxTransactionCount);
     }
 
     @Override
@@ -60,6 +87,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("initialTransactionCount", initialTransactionCount)
+                .add("maxTransactionCount", maxTransactionCount)
                 .toString();
     }
 
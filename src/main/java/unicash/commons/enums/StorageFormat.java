@@ -0,0 +1,30 @@
+package unicash.commons.enums;
+
+/**
+ * Represents the format in which UniCash data is kept on the hard disk.
+ */
+public enum StorageFormat {
+    /**
+     * The whole of UniCash is rewritten to a JSON file on every save.
+     */
+    JSON,
+
+    /**
+     * Changes are appended to a journal beside a JSON snapshot, which is
+     * only rewritten when the journal is compacted.
+     */
+    JOURNAL,
+
+    /**
+     * The whole of UniCash is rewritten to a compact binary file beside the JSON file
+     * on every save. An existing JSON file is converted when the binary file is missing.
+     */
+    BINARY,
+
+    /**
+     * Transactions are kept in one JSON file per month, listed in a manifest, and only the
+     * months whose transactions changed are rewritten on every save. An existing JSON file
+     * is converted when the manifest is missing.
+     */
+    PARTITIONED
+}
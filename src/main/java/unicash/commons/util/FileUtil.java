@@ -1,10 +1,18 @@
 package unicash.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     private FileUtil() {
 
@@ -84,4 +93,43 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the path of the temporary file that {@code file} is written to before it is
+     * moved into place by {@link #replaceWith(Path, Path)}.
+     */
+    public static Path getTemporaryPath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system supports it,
+     * so that {@code target} is never left half written.
+     */
+    public static void replaceWith(Path target, Path source) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a stream over the contents of {@code file}, read from a memory mapping of the file
+     * rather than through reads into an intermediate buffer. Files too large to be mapped in one
+     * piece are streamed from disk instead.
+     *
+     * </p> The mapping is not released when the stream is closed, but once the stream is garbage
+     * collected, so the stream should not be kept after it has been read. Until then, platforms
+     * which do not allow mapped files to be replaced may refuse to replace {@code file}.
+     */
+    public static InputStream newMappedInputStream(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return new BufferedInputStream(Files.newInputStream(file));
+            }
+            return new ByteBufferBackedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
 }
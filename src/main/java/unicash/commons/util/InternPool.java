@@ -0,0 +1,37 @@
+package unicash.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one instance.
+ *
+ * </p> Like {@link String#intern()}, {@link #intern(Object)} returns the instance already in the
+ * pool which is equal to the given value, or adds the value to the pool if there is none. The
+ * pool is safe to use from any thread, and never removes an instance, so it should only hold
+ * values which are reused heavily and have few distinct instances.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class InternPool<T> {
+
+    private final ConcurrentMap<T, T> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance which is equal to {@code value}.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonical = instances.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
@@ -7,6 +7,7 @@ import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -62,7 +63,8 @@ public class StringUtil {
         String preppedString = substring.trim();
         checkArgument(!preppedString.isEmpty(), "Substring parameter cannot be empty");
 
-        return sentence.toLowerCase().contains(preppedString.toLowerCase());
+        // Lowercased the same way as by TransactionSearchIndex, so that both agree in any default locale
+        return sentence.toLowerCase(Locale.ROOT).contains(preppedString.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -0,0 +1,45 @@
+package unicash.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for validating user input and stored data against the simple grammars of the model types.
+ *
+ * </p> The grammars of names, locations and categories are single character classes with
+ * a length limit, so they are checked with a single scan over the string rather than by
+ * matching a regular expression, which {@code String#matches} compiles again on every call.
+ */
+public class ValidationUtil {
+
+    private ValidationUtil() {}
+
+    /**
+     * Returns true if {@code test} is between 1 and {@code maxLength} characters long, and every
+     * character in it is an ASCII letter or digit, one of {@code symbols}, or a space if
+     * {@code isSpaceAllowed}. The first character may never be a space.
+     *
+     * </p> This is equivalent to matching {@code test} in full against the regular expression
+     * {@code [\p{Alnum}<symbols>][\p{Alnum}<symbols> ]{0,<maxLength - 1>}}, without the space
+     * in the second character class unless {@code isSpaceAllowed}.
+     */
+    public static boolean isAlphanumericText(String test, String symbols, boolean isSpaceAllowed, int maxLength) {
+        requireNonNull(test);
+        requireNonNull(symbols);
+
+        int length = test.length();
+        if (length == 0 || length > maxLength || !isAlphanumericOrSymbol(test.charAt(0), symbols)) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumericOrSymbol(c, symbols) && !(isSpaceAllowed && c == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumericOrSymbol(char c, String symbols) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || symbols.indexOf(c) >= 0;
+    }
+}
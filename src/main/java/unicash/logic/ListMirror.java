@@ -0,0 +1,91 @@
+package unicash.logic;
+
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} which is kept up to date by another thread.
+ *
+ * </p> The source list is changed only on the thread that owns it, while the copy may be shown
+ * by a UI whose controls can only be touched on their own thread. Every change to the source is
+ * captured on the source's thread, as the range of items replaced along with a copy of the items
+ * replacing them, and handed to the publisher. The publisher applies the changes to the copy in
+ * the order they were made, so it must run tasks in the order they are given, like
+ * {@code Platform::runLater} does.
+ */
+class ListMirror<E> {
+
+    private final ObservableList<E> mirror;
+    private final Executor publisher;
+
+    /**
+     * Creates a {@code ListMirror} of {@code source}, whose changes are applied to the copy by {@code publisher}.
+     * It must be created on the thread that owns {@code source}, or before that thread changes it.
+     */
+    ListMirror(ObservableList<? extends E> source, Executor publisher) {
+        requireAllNonNull(source, publisher);
+        this.mirror = FXCollections.observableArrayList(source);
+        this.publisher = publisher;
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the copy of the source list. It should only be read and observed through the publisher.
+     */
+    ObservableList<E> getList() {
+        return mirror;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Edit<E>> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The items in the range are only reordered or changed in place, so they are replaced as they are now
+                List<E> items = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                edits.add(new Edit<>(from, items.size(), items));
+            } else {
+                edits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        publisher.execute(() -> edits.forEach(this::apply));
+    }
+
+    private void apply(Edit<E> edit) {
+        int to = edit.from + edit.removedSize;
+        if (edit.removedSize == 1 && edit.added.size() == 1) {
+            mirror.set(edit.from, edit.added.get(0));
+        } else if (edit.from == 0 && to == mirror.size()) {
+            mirror.setAll(edit.added);
+        } else {
+            if (edit.removedSize > 0) {
+                mirror.remove(edit.from, to);
+            }
+            if (!edit.added.isEmpty()) {
+                mirror.addAll(edit.from, edit.added);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code removedSize} items starting at {@code from} with the {@code added} items.
+     */
+    private static class Edit<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        Edit(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+    }
+}
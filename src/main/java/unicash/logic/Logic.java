@@ -3,20 +3,28 @@ package unicash.logic;
 import java.nio.file.Path;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.logic.commands.CommandResult;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.DeferredTransactions;
 import unicash.model.transaction.Transaction;
 
 /**
  * API of the Logic component
+ *
+ * </p> Commands are run one at a time on a thread of their own, in the order they are given,
+ * and only that thread changes the model.
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Executes the command, waiting for it and every command given before it to finish, and returns the result.
+     * Must not be called from a command, or a query given to {@link #submitQuery(Supplier)}.
      *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
@@ -25,6 +33,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command to be executed after every command given before it, and returns without waiting.
+     * The returned future completes on the command thread, exceptionally with a {@code CommandException}
+     * or {@code ParseException} if the command fails.
+     *
+     * @param commandText The command as entered by the user.
+     * @return a future of the result of the command execution.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Queues {@code query} to be run on the command thread after every command given before it,
+     * so that it may read the model safely, and returns a future of its result.
+     */
+    <T> CompletableFuture<T> submitQuery(Supplier<T> query);
+
+    /**
+     * Starts loading {@code deferredTransactions} into the model in the background.
+     */
+    void loadDeferredTransactions(DeferredTransactions deferredTransactions);
+
+    /**
+     * Sets the handler which is given a message describing every failed save.
+     * Saves happen in the background, so the handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Blocks until every command given so far has finished, and its changes have been saved or have failed to be.
+     */
+    void flushSaves();
+
     /**
      * Returns the user prefs' UniCash file path.
      */
@@ -41,17 +81,20 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns an unmodifiable view of the filtered list of transactions
+     * Returns an unmodifiable view of the filtered list of transactions.
+     * It is a copy which is updated on the thread given to the {@code Logic}, rather than the command thread.
      */
     ObservableList<Transaction> getFilteredTransactionList();
 
     /**
-     * Returns the total expense per category
+     * Returns the total expense per category.
+     * Reads the model, so should be called through {@link #submitQuery(Supplier)} while commands may be running.
      */
     HashMap<String, Double> getExpenseSummaryPerCategory();
 
     /**
-     * Returns the total expense per year-month
+     * Returns the total expense per year-month.
+     * Reads the model, so should be called through {@link #submitQuery(Supplier)} while commands may be running.
      */
     HashMap<YearMonth, Double> getExpenseSummaryPerYearMonth();
 }
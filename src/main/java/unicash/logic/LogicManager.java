@@ -1,12 +1,22 @@
 package unicash.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
@@ -15,12 +25,26 @@ import unicash.logic.commands.CommandResult;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.logic.parser.UniCashParser;
 import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.DeferredTransactions;
 import unicash.model.Model;
 import unicash.model.transaction.Transaction;
+import unicash.storage.BackgroundUniCashSaver;
 import unicash.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * </p> Commands are parsed and executed on a single command thread, one at a time in the order
+ * they are given, so the caller is free to go on taking input while a command runs. The model
+ * is only changed on that thread, including when older transactions are merged into it. A UI
+ * thread is given a copy of the filtered transaction list instead, which is updated with every
+ * change by the list publisher.
+ *
+ * </p> Changes made by a command are saved in the background, so commands return without
+ * waiting for the data to be written. Failed saves are reported to the save failure handler.
+ * Commands which compute over every transaction, and saves, wait for any older transactions
+ * still being loaded in the background. If some of those cannot be loaded, changes are not saved,
+ * as saving would remove them from the data file.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -28,40 +52,152 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_MISSING_TRANSACTIONS =
+            "Older transactions could not be loaded, so changes are not saved to avoid losing them.";
+
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final UniCashParser uniCashParser;
+    private final BackgroundUniCashSaver saver;
+    private final ObservableList<Transaction> filteredTransactionList;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "UniCash commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The modification count of the model when its data was last handed to the saver,
+    // reset to UNSAVED by a failed save so that the next change saves everything again
+    private volatile long savedModificationCount;
+    private volatile Consumer<String> saveFailureHandler = unused -> {};
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose
+     * filtered transaction list is updated by {@code listPublisher}, such as {@code Platform::runLater}.
+     * The data in {@code model} is taken to be the data already in {@code storage}.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, Executor listPublisher) {
         this.model = model;
-        this.storage = storage;
         uniCashParser = new UniCashParser();
+        saver = new BackgroundUniCashSaver(storage);
+        saver.setFailureHandler(this::handleSaveFailure);
+        savedModificationCount = model.getModificationCount();
+        filteredTransactionList = FXCollections.unmodifiableObservableList(
+                new ListMirror<>(model.getFilteredTransactionList(), listPublisher).getList());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose
+     * filtered transaction list is updated on the command thread.
+     * The data in {@code model} is taken to be the data already in {@code storage}.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAsync(commandText).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeOnCommandThread(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        }, commandExecutor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitQuery(Supplier<T> query) {
+        requireNonNull(query);
+        return CompletableFuture.supplyAsync(query, commandExecutor);
+    }
+
+    @Override
+    public void loadDeferredTransactions(DeferredTransactions deferredTransactions) {
+        requireNonNull(deferredTransactions);
+        commandExecutor.execute(() -> model.loadDeferredTransactions(deferredTransactions, commandExecutor));
+    }
+
+    private CommandResult executeOnCommandThread(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = uniCashParser.parseCommand(commandText);
+        if (command.requiresAllTransactions()) {
+            awaitDeferredTransactions();
+        }
         commandResult = command.execute(model);
 
-        try {
-            storage.saveUniCash(model.getUniCash());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // Commands which leave the data unchanged do not need to be saved
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return commandResult;
         }
 
+        // Saving transactions which are still being loaded would leave them out of the data file
+        awaitDeferredTransactions();
+        if (model.isMissingDeferredTransactions()) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + MESSAGE_MISSING_TRANSACTIONS,
+                    commandResult.isShowHelp(), commandResult.isExit(), commandResult.isShowSummary());
+        }
+
+        // Marked as saved before saving, so that a save which fails straight away is not marked as saved after it
+        savedModificationCount = model.getModificationCount();
+        saver.save(model.getUniCash());
         return commandResult;
     }
 
+    private void awaitDeferredTransactions() {
+        int deferredCount = model.getDeferredTransactionCount();
+        if (deferredCount > 0) {
+            logger.info("Waiting for " + deferredCount + " older transactions to be loaded");
+            model.awaitDeferredTransactions();
+        }
+    }
+
+    private void handleSaveFailure(IOException e) {
+        savedModificationCount = UNSAVED;
+        if (e instanceof AccessDeniedException) {
+            saveFailureHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushSaves() {
+        CompletableFuture.runAsync(() -> {}, commandExecutor).join();
+        saver.flush();
+    }
+
     @Override
     public Path getUniCashFilePath() {
         return model.getUniCashFilePath();
@@ -79,7 +215,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Transaction> getFilteredTransactionList() {
-        return model.getFilteredTransactionList();
+        return filteredTransactionList;
     }
 
     @Override
@@ -35,12 +35,20 @@ public class AddTransactionCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (model.isFull()) {
-            throw new CommandException(TransactionList.MESSAGE_SIZE_CONSTRAINTS);
+            throw new CommandException(TransactionList.getSizeConstraintsMessage(model.getMaxTransactions()));
         }
         model.addTransaction(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, UniCashMessages.formatTransaction(toAdd)));
     }
 
+    /**
+     * Returns true, so that whether UniCash is full also counts the older transactions still being loaded.
+     */
+    @Override
+    public boolean requiresAllTransactions() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
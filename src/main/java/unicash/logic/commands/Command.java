@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command computes its result over every transaction, and so has to
+     * wait for any transactions still being loaded before it is executed.
+     */
+    public boolean requiresAllTransactions() {
+        return false;
+    }
+
 }
@@ -71,7 +71,7 @@ public class EditTransactionCommand extends Command {
 
     /**
      * Creates and returns a {@code Transaction} with the details of {@code transactionToEdit}
-     * edited with {@code editTransactionDescriptor}.
+     * edited with {@code editTransactionDescriptor}. The id of {@code transactionToEdit} is retained.
      */
     private static Transaction createEditedTransaction(
             Transaction transactionToEdit,
@@ -85,10 +85,10 @@ public class EditTransactionCommand extends Command {
         Location updatedLocation = editTransactionDescriptor.getLocation().orElse(transactionToEdit.getLocation());
         Type updatedType = editTransactionDescriptor.getType().orElse(transactionToEdit.getType());
         UniqueCategoryList updatedCategories = editTransactionDescriptor.getCategories()
-                .orElse(transactionToEdit.getCategories());
+                .orElseGet(transactionToEdit.getCategories()::toUniqueCategoryList);
 
-        return new Transaction(updatedName, updatedType, updatedAmount, updatedDateTime,
-                updatedLocation, updatedCategories);
+        return new Transaction(transactionToEdit.getId(), updatedName, updatedType, updatedAmount,
+                updatedDateTime, updatedLocation, updatedCategories);
     }
 
     @Override
@@ -43,7 +43,7 @@ public class FindCommand extends Command {
         requireNonNull(model);
         assert predicate != null : "predicate cannot be null";
 
-        model.updateFilteredTransactionList(predicate);
+        model.updateFilteredTransactionList(predicate.using(model.getTransactionSearchIndex()));
 
         logger.log(Level.INFO, String.format(
                 "Transaction List successfully updated with the predicate %s", predicate));
@@ -2,9 +2,10 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.temporal.WeekFields;
-import java.util.function.Function;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 
 import unicash.commons.enums.BudgetInterval;
 import unicash.commons.enums.CommandType;
@@ -19,7 +20,7 @@ import unicash.model.Model;
  * are accumulated over the given interval.</p>
  *
  * <p>If the interval is a day, the calculation only contains transactions within the same day,
- * the same for both week and month.</p>
+ * the same for both week and month. Weeks run from Monday to Sunday.</p>
  */
 public class GetBudgetCommand extends Command {
     public static final String COMMAND_WORD = CommandType.GET_BUDGET.getCommandWords();
@@ -52,6 +53,11 @@ public class GetBudgetCommand extends Command {
         this(LocalDateTime.now());
     }
 
+    @Override
+    public boolean requiresAllTransactions() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -62,18 +68,16 @@ public class GetBudgetCommand extends Command {
         }
 
         var interval = budget.getInterval().interval;
-        Function<LocalDateTime, Integer> filter = getIntervalFilter(interval);
+        LocalDateTime intervalStart = getIntervalStart(interval);
+        ChronoUnit intervalUnit = getIntervalUnit(interval);
         String intervalString = getIntervalString(interval);
-        assert filter != null;
+        assert intervalStart != null;
+        assert intervalUnit != null;
         assert intervalString != null;
 
-        double calculatedRemainder = model
-                .getFilteredTransactionList()
-                .stream()
-                .filter(t -> t.getType().type.equals(TransactionType.EXPENSE))
-                .filter(t -> filter.apply(t.getDateTime().getDateTime()).equals(filter.apply(from)))
-                .map(t -> -1 * t.getAmount().amount)
-                .reduce(budget.getAmount().amount, Double::sum, Double::sum);
+        long remainderCents = budget.getAmount().cents - model.getTotalAmountCents(
+                TransactionType.EXPENSE, intervalStart, intervalStart.plus(1, intervalUnit), null);
+        double calculatedRemainder = remainderCents / 100.0;
 
         if (calculatedRemainder < 0) {
             return new CommandResult(String.format(
@@ -103,17 +107,33 @@ public class GetBudgetCommand extends Command {
     }
 
     /**
-     * Maps a filter function to a given {@code BudgetInterval}. The filter function is used to compare
-     * 2 {@code LocalDateTime} to determine if they are within the same interval.
+     * Returns the start of the given {@code BudgetInterval} containing {@code from}. Weeks start on Monday.
+     */
+    private LocalDateTime getIntervalStart(BudgetInterval interval) {
+        LocalDateTime startOfDay = from.truncatedTo(ChronoUnit.DAYS);
+        switch (interval) {
+        case DAY:
+            return startOfDay;
+        case WEEK:
+            return startOfDay.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return startOfDay.withDayOfMonth(1);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Maps the length of a given {@code BudgetInterval} to a {@code ChronoUnit}.
      */
-    private Function<LocalDateTime, Integer> getIntervalFilter(BudgetInterval interval) {
+    private ChronoUnit getIntervalUnit(BudgetInterval interval) {
         switch (interval) {
         case DAY:
-            return LocalDateTime::getDayOfYear;
+            return ChronoUnit.DAYS;
         case WEEK:
-            return d -> d.get(WeekFields.ISO.weekOfYear());
+            return ChronoUnit.WEEKS;
         case MONTH:
-            return LocalDateTime::getMonthValue;
+            return ChronoUnit.MONTHS;
         default:
             return null;
         }
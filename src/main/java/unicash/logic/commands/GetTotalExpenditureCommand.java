@@ -2,7 +2,9 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.Year;
 
 import unicash.commons.enums.CommandType;
 import unicash.commons.enums.TransactionType;
@@ -39,6 +41,11 @@ public class GetTotalExpenditureCommand extends Command {
         this.categoryFilter = categoryFilter;
     }
 
+    @Override
+    public boolean requiresAllTransactions() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -51,12 +58,9 @@ public class GetTotalExpenditureCommand extends Command {
             throw new CommandException(UniCashMessages.MESSAGE_INVALID_YEAR);
         }
 
+        // The displayed list is re-checked as transactions change, so it filters by the same criteria as the total
         model.updateFilteredTransactionList(this::isMatchingTransaction);
-        var filteredList = model.getFilteredTransactionList();
-
-        double totalExpenditure = filteredList
-                .stream()
-                .reduce(0.0, (acc, cur) -> acc + cur.getAmount().amount, Double::sum);
+        double totalExpenditure = getTotalExpenditureCents(model) / 100.0;
 
         String monthString = StringUtil.capitalizeString(Month.of(month).name());
 
@@ -75,6 +79,25 @@ public class GetTotalExpenditureCommand extends Command {
         );
     }
 
+    /**
+     * Returns the total in cents of the expenses in the requested month and category,
+     * taken from the requested month's slice of the model's date index.
+     */
+    private long getTotalExpenditureCents(Model model) {
+        if (year >= Year.MAX_VALUE) {
+            // No transaction can be dated this far ahead
+            return 0;
+        }
+        LocalDateTime monthStart = LocalDateTime.of(year, month, 1, 0, 0);
+        long totalExpenditureCents = 0;
+        for (Transaction transaction : model.getTransactionsBetween(monthStart, monthStart.plusMonths(1))) {
+            if (isMatchingTransaction(transaction)) {
+                totalExpenditureCents += transaction.getAmount().cents;
+            }
+        }
+        return totalExpenditureCents;
+    }
+
     private boolean isMatchingTransaction(Transaction transaction) {
         boolean isExpense = transaction.getType().type.equals(TransactionType.EXPENSE);
 
@@ -91,11 +114,7 @@ public class GetTotalExpenditureCommand extends Command {
         // If category filter exists and expense contains no category, it will not have the category
         // Note: If the stream is empty then false is returned and the predicate is not evaluated.
         // Case insensitivity is handled by the creation of Category objects
-        boolean hasCategory = transaction
-                .getCategories()
-                .asUnmodifiableObservableList()
-                .stream()
-                .anyMatch(cat -> cat.equals(categoryFilter));
+        boolean hasCategory = transaction.getCategories().contains(categoryFilter);
 
         return isExpense && isSameDateFields && hasCategory;
     }
@@ -16,6 +16,11 @@ public class SummaryCommand extends Command {
 
     public static final String MESSAGE_NOT_SHOWING_SUMMARY = "You have no expenses to summarize.";
 
+    @Override
+    public boolean requiresAllTransactions() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         if (model.hasExpenses()) {
@@ -0,0 +1,162 @@
+package unicash.model;
+
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.exceptions.MaxTransactionException;
+
+/**
+ * Loads {@code DeferredTransactions} into a {@code UniCash} in batches, on a background thread.
+ *
+ * </p> Batches are loaded from the newest to the oldest, and each loaded batch is handed over
+ * to be merged into the front of the UniCash by the merge executor, which has to run it on
+ * the thread that owns the UniCash. Merging in that order keeps every transaction in its
+ * place in the data file. {@link #awaitAll()} merges the rest immediately instead, so it
+ * never depends on the merge executor getting to run.
+ *
+ * </p> If a batch cannot be loaded, or does not fit into the UniCash, loading stops and the
+ * loader is marked as failed. The transactions not merged are still counted as unmerged, so
+ * that the incomplete UniCash is never mistaken for the whole of the data file.
+ */
+class DeferredTransactionLoader {
+
+    static final int BATCH_SIZE = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(DeferredTransactionLoader.class);
+
+    private final DeferredTransactions deferredTransactions;
+    private final UniCash target;
+    private final BlockingQueue<LoadedBatch> loadedBatches = new LinkedBlockingQueue<>();
+
+    // The number of deferred transactions not yet merged, only accessed on the thread that owns the target
+    private int unmergedCount;
+    private boolean hasFailed = false;
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Creates a {@code DeferredTransactionLoader} which loads {@code deferredTransactions} into {@code target}.
+     */
+    DeferredTransactionLoader(DeferredTransactions deferredTransactions, UniCash target) {
+        requireAllNonNull(deferredTransactions, target);
+        this.deferredTransactions = deferredTransactions;
+        this.target = target;
+        this.unmergedCount = deferredTransactions.size();
+    }
+
+    /**
+     * Starts loading batches on a background thread, with {@code mergeExecutor} merging each loaded batch.
+     */
+    void start(Executor mergeExecutor) {
+        Thread thread = new Thread(() -> loadBatches(mergeExecutor), "UniCash deferred loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void loadBatches(Executor mergeExecutor) {
+        for (int toIndex = deferredTransactions.size(); toIndex > 0 && !isCancelled; toIndex -= BATCH_SIZE) {
+            int fromIndex = Math.max(0, toIndex - BATCH_SIZE);
+            try {
+                loadedBatches.add(new LoadedBatch(deferredTransactions.load(fromIndex, toIndex), null));
+            } catch (DataLoadingException e) {
+                loadedBatches.add(new LoadedBatch(null, e));
+                mergeExecutor.execute(this::mergeLoadedBatches);
+                return;
+            }
+            mergeExecutor.execute(this::mergeLoadedBatches);
+        }
+    }
+
+    /**
+     * Stops loading, and discards every batch which has not been merged yet.
+     */
+    void cancel() {
+        isCancelled = true;
+        unmergedCount = 0;
+        loadedBatches.clear();
+    }
+
+    /**
+     * Returns the number of deferred transactions which have not been merged yet.
+     */
+    int getUnmergedCount() {
+        return unmergedCount;
+    }
+
+    /**
+     * Returns true if some deferred transactions could not be merged, and never will be.
+     */
+    boolean hasFailed() {
+        return hasFailed;
+    }
+
+    /**
+     * Merges every batch loaded so far into the target, without waiting for any other batch.
+     */
+    void mergeLoadedBatches() {
+        for (LoadedBatch batch = loadedBatches.poll(); batch != null; batch = loadedBatches.poll()) {
+            merge(batch);
+        }
+    }
+
+    /**
+     * Waits for every remaining batch to be loaded, and merges each into the target, stopping early if
+     * loading fails.
+     */
+    void awaitAll() {
+        while (unmergedCount > 0 && !hasFailed) {
+            try {
+                merge(loadedBatches.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void merge(LoadedBatch batch) {
+        if (unmergedCount == 0 || hasFailed) {
+            return;
+        }
+
+        if (batch.failure != null) {
+            fail("Older transactions could not be loaded, " + unmergedCount
+                    + " of them are missing: " + batch.failure.getMessage());
+            return;
+        }
+
+        try {
+            target.addOlderTransactions(batch.transactions);
+            unmergedCount -= batch.transactions.size();
+        } catch (MaxTransactionException e) {
+            fail("UniCash is full, " + unmergedCount + " older transactions are missing.");
+        }
+    }
+
+    private void fail(String message) {
+        logger.warning(message);
+        hasFailed = true;
+        isCancelled = true;
+        loadedBatches.clear();
+    }
+
+    /**
+     * The transactions of one loaded batch, or the failure to load them.
+     */
+    private static class LoadedBatch {
+        private final List<Transaction> transactions;
+        private final DataLoadingException failure;
+
+        LoadedBatch(List<Transaction> transactions, DataLoadingException failure) {
+            this.transactions = transactions;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package unicash.model;
+
+import java.util.List;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.transaction.Transaction;
+
+/**
+ * The older transactions of a data file, which have been read but not yet turned into
+ * {@code Transaction} objects, so that loading them can be deferred until after startup.
+ */
+public interface DeferredTransactions {
+
+    /**
+     * Returns the number of deferred transactions.
+     */
+    int size();
+
+    /**
+     * Returns the deferred transactions from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive, in the order they appear in the data file. May be called from any thread.
+     *
+     * @throws DataLoadingException if any of the transactions violates any data constraints.
+     */
+    List<Transaction> load(int fromIndex, int toIndex) throws DataLoadingException;
+}
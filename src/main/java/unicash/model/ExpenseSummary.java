@@ -0,0 +1,120 @@
+package unicash.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Running totals of expenses per category and per year-month, kept up to date with an
+ * {@code ObservableList} of transactions.
+ *
+ * </p> Instead of re-walking every transaction whenever a summary is requested, this class
+ * listens to changes to the transaction list and applies only the added and removed
+ * transactions to its totals. Income transactions are ignored. Totals are kept in cents, like
+ * {@code Amount}, so that repeatedly adding and subtracting amounts stays exact.
+ */
+public class ExpenseSummary {
+
+    public static final String UNCATEGORIZED = "Uncategorized";
+
+    private final Map<String, Tally> perCategory = new HashMap<>();
+    private final Map<YearMonth, Tally> perYearMonth = new HashMap<>();
+    private int expenseCount = 0;
+
+    /**
+     * Creates an {@code ExpenseSummary} of {@code transactions} which stays up to date
+     * with any subsequent changes to the list.
+     */
+    public ExpenseSummary(ObservableList<Transaction> transactions) {
+        requireNonNull(transactions);
+        transactions.forEach(t -> apply(t, 1));
+        transactions.addListener(this::onChanged);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Reordering transactions does not change any totals
+                continue;
+            }
+            change.getRemoved().forEach(t -> apply(t, -1));
+            change.getAddedSubList().forEach(t -> apply(t, 1));
+        }
+    }
+
+    /**
+     * Adds ({@code sign} of 1) or subtracts ({@code sign} of -1) {@code transaction} from the totals.
+     */
+    private void apply(Transaction transaction, int sign) {
+        if (transaction.getType().type != TransactionType.EXPENSE) {
+            return;
+        }
+
+        long cents = sign * transaction.getAmount().cents;
+        expenseCount += sign;
+        update(perYearMonth, transaction.getDateTime().getYearMonth(), cents, sign);
+
+        List<Category> categories = transaction.getCategories().asList();
+        if (categories.isEmpty()) {
+            update(perCategory, UNCATEGORIZED, cents, sign);
+            return;
+        }
+        for (Category category : categories) {
+            update(perCategory, category.category, cents, sign);
+        }
+    }
+
+    private static <K> void update(Map<K, Tally> tallies, K key, long cents, int sign) {
+        Tally tally = tallies.computeIfAbsent(key, unused -> new Tally());
+        tally.cents += cents;
+        tally.count += sign;
+        if (tally.count == 0) {
+            tallies.remove(key);
+        }
+    }
+
+    private static <K> HashMap<K, Double> toAmounts(Map<K, Tally> tallies) {
+        HashMap<K, Double> amounts = new HashMap<>();
+        tallies.forEach((key, tally) -> amounts.put(key, tally.cents / 100.0));
+        return amounts;
+    }
+
+    /**
+     * Returns true if there are transactions of type "expense", and false otherwise.
+     */
+    public boolean hasExpenses() {
+        return expenseCount > 0;
+    }
+
+    /**
+     * Returns the expense amount for each category, with uncategorized expenses
+     * grouped under {@link #UNCATEGORIZED}.
+     */
+    public HashMap<String, Double> getSumPerCategory() {
+        return toAmounts(perCategory);
+    }
+
+    /**
+     * Returns the expense amount for each year-month.
+     */
+    public HashMap<YearMonth, Double> getSumPerYearMonth() {
+        return toAmounts(perYearMonth);
+    }
+
+    /**
+     * A running total in cents along with the number of expenses that make it up.
+     */
+    private static class Tally {
+        private long cents;
+        private int count;
+    }
+}
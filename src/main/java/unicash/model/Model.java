@@ -1,14 +1,20 @@
 package unicash.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.TransactionType;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionSearchIndex;
 
 /**
  * The API of the Model component.
@@ -87,6 +93,11 @@ public interface Model {
      */
     boolean isFull();
 
+    /**
+     * Returns the maximum number of transactions UniCash holds.
+     */
+    int getMaxTransactions();
+
     /**
      * Returns true if a transaction with the same identity as {@code transaction} exists in UniCash.
      */
@@ -133,4 +144,51 @@ public interface Model {
      * Returns true if there are transactions of type "expense", and false otherwise
      */
     boolean hasExpenses();
+
+    /**
+     * Returns all transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order, regardless of the current filter.
+     */
+    List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the total amount in cents of all transactions of type {@code type} dated from {@code start}
+     * (inclusive) to {@code end} (exclusive), regardless of the current filter. Only transactions in
+     * {@code category} are counted, unless it is null.
+     */
+    long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end, Category category);
+
+    /**
+     * Returns the search index over all transactions, regardless of the current filter.
+     */
+    TransactionSearchIndex getTransactionSearchIndex();
+
+    /**
+     * Returns the number of changes made to the transactions and budget so far.
+     * The data has changed since an earlier call only if the returned count differs.
+     */
+    long getModificationCount();
+
+    /**
+     * Starts loading {@code deferredTransactions} in the background, in front of the transactions
+     * already in UniCash. Each loaded batch is merged in by {@code mergeExecutor}, which has to run
+     * it on the thread that uses this model.
+     */
+    void loadDeferredTransactions(DeferredTransactions deferredTransactions, Executor mergeExecutor);
+
+    /**
+     * Returns the number of deferred transactions which have not been loaded into UniCash yet.
+     */
+    int getDeferredTransactionCount();
+
+    /**
+     * Waits for every deferred transaction to be loaded into UniCash, or for loading them to fail.
+     */
+    void awaitDeferredTransactions();
+
+    /**
+     * Returns true if some deferred transactions could not be loaded into UniCash, so that its data
+     * is only part of the data file.
+     */
+    boolean isMissingDeferredTransactions();
 }
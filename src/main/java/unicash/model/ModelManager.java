@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,8 +16,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
+import unicash.commons.enums.TransactionType;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.TransactionSearchIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,20 +32,30 @@ public class ModelManager implements Model {
     private final UniCash uniCash;
     private final UserPrefs userPrefs;
     private final FilteredList<Transaction> filteredTransactions;
+    private DeferredTransactionLoader deferredTransactionLoader = null;
 
     /**
-     * Initializes a ModelManager with the given userPrefs and UniCash.
+     * Initializes a ModelManager with the given userPrefs and UniCash, which holds up to
+     * {@code maxTransactions} Transactions.
      */
-    public ModelManager(ReadOnlyUniCash uniCash, ReadOnlyUserPrefs userPrefs) {
+    public ModelManager(ReadOnlyUniCash uniCash, ReadOnlyUserPrefs userPrefs, int maxTransactions) {
         requireAllNonNull(uniCash, userPrefs);
 
         logger.fine("Initializing with UniCash: " + uniCash + " and user prefs " + userPrefs);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        this.uniCash = new UniCash(uniCash);
+        this.uniCash = new UniCash(maxTransactions);
+        this.uniCash.resetData(uniCash);
         filteredTransactions = new FilteredList<>(this.uniCash.getTransactionList());
     }
 
+    /**
+     * Initializes a ModelManager with the given userPrefs and UniCash.
+     */
+    public ModelManager(ReadOnlyUniCash uniCash, ReadOnlyUserPrefs userPrefs) {
+        this(uniCash, userPrefs, TransactionList.DEFAULT_MAX_TRANSACTIONS);
+    }
+
     public ModelManager() {
         this(new UniCash(), new UserPrefs());
     }
@@ -81,6 +98,11 @@ public class ModelManager implements Model {
     //=========== UniCash ================================================================================
     @Override
     public void setUniCash(ReadOnlyUniCash uniCash) {
+        // Deferred transactions belong to the data being replaced
+        if (deferredTransactionLoader != null) {
+            deferredTransactionLoader.cancel();
+            deferredTransactionLoader = null;
+        }
         this.uniCash.resetData(uniCash);
     }
 
@@ -117,6 +139,11 @@ public class ModelManager implements Model {
         return uniCash.isFull();
     }
 
+    @Override
+    public int getMaxTransactions() {
+        return uniCash.getMaxTransactions();
+    }
+
     @Override
     public void setBudget(Budget budget) {
         uniCash.setBudget(budget);
@@ -164,6 +191,58 @@ public class ModelManager implements Model {
         return uniCash.hasExpenses();
     }
 
+    @Override
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return uniCash.getTransactionsBetween(start, end);
+    }
+
+    @Override
+    public long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end,
+            Category category) {
+        requireAllNonNull(type, start, end);
+        return uniCash.getTotalAmountCents(type, start, end, category);
+    }
+
+    @Override
+    public TransactionSearchIndex getTransactionSearchIndex() {
+        return uniCash.getTransactionSearchIndex();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return uniCash.getModificationCount();
+    }
+
+    @Override
+    public void loadDeferredTransactions(DeferredTransactions deferredTransactions, Executor mergeExecutor) {
+        requireAllNonNull(deferredTransactions, mergeExecutor);
+        awaitDeferredTransactions();
+        deferredTransactionLoader = new DeferredTransactionLoader(deferredTransactions, uniCash);
+        deferredTransactionLoader.start(mergeExecutor);
+    }
+
+    @Override
+    public int getDeferredTransactionCount() {
+        return deferredTransactionLoader == null ? 0 : deferredTransactionLoader.getUnmergedCount();
+    }
+
+    @Override
+    public void awaitDeferredTransactions() {
+        if (deferredTransactionLoader != null) {
+            deferredTransactionLoader.awaitAll();
+            // A loader which failed is kept, so that the data is still known to be incomplete
+            if (deferredTransactionLoader.getUnmergedCount() == 0) {
+                deferredTransactionLoader = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isMissingDeferredTransactions() {
+        return deferredTransactionLoader != null && deferredTransactionLoader.hasFailed();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
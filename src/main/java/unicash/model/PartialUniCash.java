@@ -0,0 +1,54 @@
+package unicash.model;
+
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import unicash.model.transaction.Transaction;
+
+/**
+ * UniCash data of which only the most recent transactions have been loaded, along with
+ * the older transactions which are still to be loaded.
+ */
+public class PartialUniCash {
+
+    private static final DeferredTransactions NO_DEFERRED_TRANSACTIONS = new DeferredTransactions() {
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public List<Transaction> load(int fromIndex, int toIndex) {
+            return Collections.emptyList();
+        }
+    };
+
+    public final ReadOnlyUniCash loadedData;
+    public final DeferredTransactions deferredTransactions;
+
+    /**
+     * Creates a {@code PartialUniCash} of the {@code loadedData}, which only holds the transactions
+     * after the {@code deferredTransactions} in the data file.
+     */
+    public PartialUniCash(ReadOnlyUniCash loadedData, DeferredTransactions deferredTransactions) {
+        requireAllNonNull(loadedData, deferredTransactions);
+        this.loadedData = loadedData;
+        this.deferredTransactions = deferredTransactions;
+    }
+
+    /**
+     * Creates a {@code PartialUniCash} of the fully loaded {@code loadedData}.
+     */
+    public PartialUniCash(ReadOnlyUniCash loadedData) {
+        this(loadedData, NO_DEFERRED_TRANSACTIONS);
+    }
+
+    /**
+     * Returns true if every transaction has been loaded.
+     */
+    public boolean isFullyLoaded() {
+        return deferredTransactions.size() == 0;
+    }
+}
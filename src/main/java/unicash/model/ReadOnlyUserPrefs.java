@@ -3,6 +3,7 @@ package unicash.model;
 import java.nio.file.Path;
 
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -12,4 +13,6 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getUniCashFilePath();
+
+    StorageFormat getUniCashStorageFormat();
 }
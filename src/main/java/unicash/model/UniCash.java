@@ -2,12 +2,17 @@ package unicash.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import unicash.commons.enums.TransactionType;
 import unicash.commons.util.ToStringBuilder;
@@ -15,20 +20,45 @@ import unicash.model.budget.Budget;
 import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.TransactionSearchIndex;
 
 /**
  * Wraps all data in UniCash
+ *
+ * </p> The most recent changes to the transactions and budget are remembered, in the order they
+ * were made, so that storage can record just those instead of every transaction. Changes which
+ * cannot be described one transaction at a time, such as replacing every transaction, make the
+ * changes before them forgotten.
  */
 public class UniCash implements ReadOnlyUniCash {
 
+    private static final int MAX_RECENT_CHANGES = 1024;
+
     private final TransactionList transactions;
+    private final ExpenseSummary expenseSummary;
     private Budget budget;
 
+    // Counts the changes made to the transactions and budget, so that unchanged data need not be saved again
+    private long modificationCount = 0;
+
+    private final ArrayDeque<Change> recentChanges = new ArrayDeque<>();
+    private long changeCount = 0;
+
     /**
      * Creates UniCash instance with starting values of {@code TransactionList} and {@code Budget}.
      */
     public UniCash() {
-        transactions = new TransactionList();
+        this(TransactionList.DEFAULT_MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates an empty UniCash which holds up to {@code maxTransactions} Transactions, as by
+     * {@link TransactionList#TransactionList(int)}.
+     */
+    public UniCash(int maxTransactions) {
+        transactions = new TransactionList(maxTransactions);
+        expenseSummary = new ExpenseSummary(transactions.asUnmodifiableObservableList());
+        transactions.asUnmodifiableObservableList().addListener(this::recordTransactionChanges);
         // Null budget is equivalent to having no budget
         budget = null;
     }
@@ -51,6 +81,7 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransactions(transactions);
+        modificationCount++;
     }
 
     /**
@@ -65,6 +96,15 @@ public class UniCash implements ReadOnlyUniCash {
         }
     }
 
+    /**
+     * Inserts {@code transactions} in order before every Transaction in UniCash.
+     * This restores Transactions which were saved before but not yet loaded,
+     * so it does not count as a change to the data.
+     */
+    public void addOlderTransactions(List<Transaction> transactions) {
+        this.transactions.addAllToFront(transactions);
+    }
+
     //// Transaction-level operations
 
     /**
@@ -80,6 +120,7 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void addTransaction(Transaction p) {
         transactions.add(p);
+        modificationCount++;
     }
 
     /**
@@ -89,12 +130,20 @@ public class UniCash implements ReadOnlyUniCash {
         return transactions.isFull();
     }
 
+    /**
+     * Returns the maximum number of Transactions this UniCash holds.
+     */
+    public int getMaxTransactions() {
+        return transactions.getMaxTransactions();
+    }
+
     /**
      * Replaces the given Transaction {@code target} in the list with {@code editedTransaction}.
      */
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireNonNull(editedTransaction);
         transactions.setTransaction(target, editedTransaction);
+        modificationCount++;
     }
 
     /**
@@ -103,20 +152,38 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void removeTransaction(Transaction key) {
         transactions.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        return transactions.getTransactionsBetween(start, end);
+    }
+
+    /**
+     * Returns the total amount in cents of the transactions of type {@code type} dated from {@code start}
+     * (inclusive) to {@code end} (exclusive), counting only those in {@code category} if it is not null.
+     */
+    public long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end,
+            Category category) {
+        return transactions.getTotalAmountCents(type, start, end, category);
     }
 
-    private List<Transaction> getAllExpenses() {
-        return getTransactionList()
-                .stream()
-                .filter(t -> t.getType().toString().equals(TransactionType.EXPENSE.getOriginalString()))
-                .collect(Collectors.toUnmodifiableList());
+    /**
+     * Returns the search index over the transactions in this {@code UniCash}.
+     */
+    public TransactionSearchIndex getTransactionSearchIndex() {
+        return transactions.getSearchIndex();
     }
 
     /**
      * Returns true if there are transactions of type "expense", and false otherwise
      */
     public boolean hasExpenses() {
-        return !getAllExpenses().isEmpty();
+        return expenseSummary.hasExpenses();
     }
 
     /**
@@ -124,19 +191,7 @@ public class UniCash implements ReadOnlyUniCash {
      * Note: This function ignores all 'income' transactions
      */
     public HashMap<YearMonth, Double> getSumOfExpensePerYearMonth() {
-        HashMap<YearMonth, Double> sumPerMonth = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            YearMonth yearMonth = t.getDateTime().getYearMonth();
-            if (!sumPerMonth.containsKey(yearMonth)) {
-                sumPerMonth.put(yearMonth, 0.0);
-            }
-            Double currAmount = sumPerMonth.get(yearMonth);
-            sumPerMonth.put(yearMonth, currAmount + transactionAmount);
-        }
-        return sumPerMonth;
+        return expenseSummary.getSumPerYearMonth();
     }
 
     /**
@@ -147,6 +202,8 @@ public class UniCash implements ReadOnlyUniCash {
     public void setBudget(Budget budget) {
         requireNonNull(budget);
         this.budget = budget;
+        modificationCount++;
+        recordChange(new Change(Change.Kind.BUDGET, null, getBudget()));
     }
 
     /**
@@ -157,63 +214,89 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void clearBudget() {
         budget = null;
+        modificationCount++;
+        recordChange(new Change(Change.Kind.BUDGET, null, null));
     }
 
     /**
-     * Returns the amount for each category of expenses.
-     * Note: This function ignores all 'income' transactions
+     * Returns the number of changes made to the transactions and budget of this {@code UniCash}
+     * so far. The count only ever increases, so an unchanged count means unchanged data.
      */
-    public HashMap<String, Double> getSumOfExpensePerCategory() {
-        HashMap<String, Double> sumPerCategory = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-        String uncategorizedCategoryName = "Uncategorized";
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            boolean hasNoCategory = t.getCategories().asUnmodifiableObservableList().isEmpty();
-
-            if (hasNoCategory) {
-                handleNoCategoryTransaction(
-                        sumPerCategory,
-                        uncategorizedCategoryName,
-                        transactionAmount
-                );
-            } else {
-                handleCategoryTransaction(
-                        t.getCategories().asUnmodifiableObservableList(),
-                        sumPerCategory,
-                        transactionAmount
-                );
-            }
-        }
+    public long getModificationCount() {
+        return modificationCount;
+    }
 
-        return sumPerCategory;
+    /**
+     * Returns the number of changes made to the transactions and budget of this {@code UniCash} so far,
+     * including those which do not count as modifications, such as restoring older transactions.
+     */
+    public long getChangeCount() {
+        return changeCount;
     }
 
-    private void handleNoCategoryTransaction(
-            HashMap<String, Double> sumPerCategory,
-            String uncategorizedCategoryName,
-            Double transactionAmount) {
-        if (!sumPerCategory.containsKey(uncategorizedCategoryName)) {
-            sumPerCategory.put(uncategorizedCategoryName, (double) 0);
+    /**
+     * Returns the changes made to this {@code UniCash} since its change count was {@code changeCount},
+     * oldest first, or null if they are no longer all remembered.
+     */
+    public List<Change> getChangesSince(long changeCount) {
+        long sinceCount = this.changeCount - changeCount;
+        if (sinceCount < 0 || sinceCount > recentChanges.size()) {
+            return null;
+        }
+
+        List<Change> changes = new ArrayList<>((int) sinceCount);
+        Iterator<Change> newestFirst = recentChanges.descendingIterator();
+        for (long i = 0; i < sinceCount; i++) {
+            changes.add(newestFirst.next());
         }
-        Double currAmount = sumPerCategory.get(uncategorizedCategoryName);
-        sumPerCategory.put(uncategorizedCategoryName, currAmount + transactionAmount);
+        Collections.reverse(changes);
+        return changes;
     }
 
-    private void handleCategoryTransaction(
-            ObservableList<Category> categories,
-            HashMap<String, Double> sumPerCategory,
-            Double transactionAmount) {
-        for (Category transactionCategory : categories) {
-            if (!sumPerCategory.containsKey(transactionCategory.category)) {
-                sumPerCategory.put(transactionCategory.category, (double) 0);
+    private void recordTransactionChanges(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()
+                    || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                forgetRecentChanges();
+                continue;
+            }
+
+            Transaction removed = change.wasRemoved() ? change.getRemoved().get(0) : null;
+            Transaction added = change.wasAdded() ? change.getAddedSubList().get(0) : null;
+            if (removed != null && added != null && removed.getId().equals(added.getId())) {
+                recordChange(new Change(Change.Kind.SET, added, null));
+            } else if (removed != null && added == null) {
+                recordChange(new Change(Change.Kind.REMOVE, removed, null));
+            } else if (removed == null && added != null && change.getTo() == change.getList().size()) {
+                recordChange(new Change(Change.Kind.ADD, added, null));
+            } else {
+                // Transactions which change position cannot be described one at a time
+                forgetRecentChanges();
             }
-            Double currAmount = sumPerCategory.get(transactionCategory.category);
-            sumPerCategory.put(transactionCategory.category, currAmount + transactionAmount);
         }
     }
 
+    private void recordChange(Change change) {
+        if (recentChanges.size() == MAX_RECENT_CHANGES) {
+            recentChanges.removeFirst();
+        }
+        recentChanges.addLast(change);
+        changeCount++;
+    }
+
+    private void forgetRecentChanges() {
+        recentChanges.clear();
+        changeCount++;
+    }
+
+    /**
+     * Returns the amount for each category of expenses.
+     * Note: This function ignores all 'income' transactions
+     */
+    public HashMap<String, Double> getSumOfExpensePerCategory() {
+        return expenseSummary.getSumPerCategory();
+    }
+
     //// util methods
 
     @Override
@@ -263,4 +346,34 @@ public class UniCash implements ReadOnlyUniCash {
     public int hashCode() {
         return Objects.hash(transactions, budget);
     }
+
+    /**
+     * A change to the transactions or budget of a {@code UniCash}.
+     */
+    public static class Change {
+
+        /**
+         * The kinds of change that are remembered.
+         */
+        public enum Kind {
+            /** {@code transaction} was added after every other transaction. */
+            ADD,
+            /** {@code transaction} replaced the transaction with the same id. */
+            SET,
+            /** {@code transaction} was removed. */
+            REMOVE,
+            /** The budget was set to {@code budget}, or cleared if it is null. */
+            BUDGET
+        }
+
+        public final Kind kind;
+        public final Transaction transaction;
+        public final Budget budget;
+
+        private Change(Kind kind, Transaction transaction, Budget budget) {
+            this.kind = kind;
+            this.transaction = transaction;
+            this.budget = budget;
+        }
+    }
 }
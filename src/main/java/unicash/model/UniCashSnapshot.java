@@ -0,0 +1,140 @@
+package unicash.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import unicash.commons.util.ToStringBuilder;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * An immutable copy of the data in a {@code ReadOnlyUniCash}, taken at one point in time.
+ *
+ * </p> Transactions are immutable, so copying the list of them is enough to keep a
+ * snapshot from seeing later changes. Unlike a full {@code UniCash}, a snapshot builds
+ * none of the indexes or summaries over its transactions, which makes it cheap to take
+ * whenever the data has to be handed over to storage.
+ *
+ * </p> A snapshot may instead hold just the changes made to a {@code UniCash} since an earlier
+ * point, as counted by {@link UniCash#getChangeCount()}, for storage which already holds the data
+ * at that point. Such a snapshot does not copy the transactions, so it takes time in proportion
+ * to the changes rather than to the data, and its transactions cannot be read.
+ */
+public class UniCashSnapshot implements ReadOnlyUniCash {
+
+    public static final long NO_CHANGE_COUNT = -1;
+    public static final String MESSAGE_CHANGES_ONLY = "This snapshot holds only the changes to the transactions";
+
+    private final ObservableList<Transaction> transactions;
+    private final Budget budget;
+    private final long changeCount;
+    private final long baseChangeCount;
+    private final List<UniCash.Change> changes;
+
+    /**
+     * Creates a snapshot of the transactions and budget currently in {@code source}.
+     */
+    public UniCashSnapshot(ReadOnlyUniCash source) {
+        this(copyOf(source.getTransactionList()), source.getBudget(),
+                source instanceof UniCash ? ((UniCash) source).getChangeCount() : NO_CHANGE_COUNT,
+                NO_CHANGE_COUNT, null);
+    }
+
+    /**
+     * Creates a snapshot of {@code transactions}, in order, and {@code budget}, which may be null.
+     */
+    public UniCashSnapshot(List<Transaction> transactions, Budget budget) {
+        this(copyOf(transactions), budget, NO_CHANGE_COUNT, NO_CHANGE_COUNT, null);
+    }
+
+    private UniCashSnapshot(ObservableList<Transaction> transactions, Budget budget, long changeCount,
+            long baseChangeCount, List<UniCash.Change> changes) {
+        this.transactions = transactions;
+        this.budget = budget;
+        this.changeCount = changeCount;
+        this.baseChangeCount = baseChangeCount;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot of just the changes made to {@code source} since its change count was
+     * {@code baseChangeCount}, or an empty Optional if they are no longer all remembered.
+     */
+    public static Optional<UniCashSnapshot> ofChangesSince(UniCash source, long baseChangeCount) {
+        requireNonNull(source);
+        List<UniCash.Change> changes = source.getChangesSince(baseChangeCount);
+        if (changes == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UniCashSnapshot(null, source.getBudget(), source.getChangeCount(),
+                baseChangeCount, changes));
+    }
+
+    private static ObservableList<Transaction> copyOf(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(transactions)));
+    }
+
+    /**
+     * Returns true if this snapshot holds a copy of the transactions, and false if it holds only the changes to them.
+     */
+    public boolean hasTransactions() {
+        return transactions != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if this snapshot holds only the changes to the transactions.
+     */
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        if (transactions == null) {
+            throw new UnsupportedOperationException(MESSAGE_CHANGES_ONLY);
+        }
+        return transactions;
+    }
+
+    @Override
+    public Budget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the change count of the {@code UniCash} this snapshot was taken of, when it was taken,
+     * or {@code NO_CHANGE_COUNT} if it was not taken of a {@code UniCash}.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Returns the change count from which {@link #getChanges()} are counted,
+     * or {@code NO_CHANGE_COUNT} if this snapshot holds a copy of the transactions instead.
+     */
+    public long getBaseChangeCount() {
+        return baseChangeCount;
+    }
+
+    /**
+     * Returns the changes made since the base change count, oldest first,
+     * or an empty Optional if this snapshot holds a copy of the transactions instead.
+     */
+    public Optional<List<UniCash.Change>> getChanges() {
+        return Optional.ofNullable(changes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("transactions", transactions)
+                .add("budget", budget)
+                .add("changes", changes)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path uniCashFilePath = Paths.get("data", "unicash.json");
+    private StorageFormat uniCashStorageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setUniCashFilePath(newUserPrefs.getUniCashFilePath());
+        setUniCashStorageFormat(newUserPrefs.getUniCashStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +60,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.uniCashFilePath = uniCashFilePath;
     }
 
+    public StorageFormat getUniCashStorageFormat() {
+        return uniCashStorageFormat;
+    }
+
+    public void setUniCashStorageFormat(StorageFormat uniCashStorageFormat) {
+        requireNonNull(uniCashStorageFormat);
+        this.uniCashStorageFormat = uniCashStorageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -70,12 +82,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && uniCashFilePath.equals(otherUserPrefs.uniCashFilePath);
+                && uniCashFilePath.equals(otherUserPrefs.uniCashFilePath)
+                && uniCashStorageFormat.equals(otherUserPrefs.uniCashStorageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, uniCashFilePath);
+        return Objects.hash(guiSettings, uniCashFilePath, uniCashStorageFormat);
     }
 
     @Override
@@ -83,6 +96,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + uniCashFilePath);
+        sb.append("\nLocal data file format : " + uniCashStorageFormat);
         return sb.toString();
     }
 
@@ -3,6 +3,11 @@ package unicash.model.category;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import unicash.commons.util.InternPool;
+import unicash.commons.util.ValidationUtil;
+
 /**
  * Represents a Category in UniCash.
  * Guarantees: immutable; categoryName is case-insensitive; categoryName is valid
@@ -21,8 +26,12 @@ public class Category {
     // Category can only be up to 15 characters long
     public static final String VALIDATION_REGEX = "\\p{Alnum}{1,15}$";
 
+    public static final int MAX_LENGTH = 15;
+
     public static final String CATEGORY_PREFIX_SYMBOL = "#";
 
+    private static final InternPool<Category> POOL = new InternPool<>();
+
     public final String category;
 
     /**
@@ -31,18 +40,37 @@ public class Category {
      * @param category A valid category name.
      */
     public Category(String category) {
+        this(category, false);
+    }
+
+    private Category(String category, boolean isValidated) {
         requireNonNull(category);
-        checkArgument(isValidCategory(category), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidated || isValidCategory(category), MESSAGE_CONSTRAINTS);
 
         // All user input will be formatted to lowercase. "HOUSEhold" == "household"
-        this.category = category.toLowerCase();
+        this.category = category.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a {@code Category} of {@code category} without checking it against {@link #VALIDATION_REGEX}.
+     * Only for a category name which has already been validated, such as one read back from storage.
+     */
+    public static Category ofValidated(String category) {
+        return new Category(category, true);
     }
 
     /**
      * Returns true if a given string is a valid category.
      */
     public static boolean isValidCategory(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, "", false, MAX_LENGTH);
+    }
+
+    /**
+     * Returns the canonical {@code Category} equal to this one, which every equal category can share.
+     */
+    public Category intern() {
+        return POOL.intern(this);
     }
 
     @Override
@@ -0,0 +1,130 @@
+package unicash.model.category;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import unicash.model.category.exceptions.DuplicateCategoryException;
+import unicash.model.category.exceptions.MaxCategoryException;
+
+/**
+ * An immutable set of up to {@link UniqueCategoryList#MAX_CATEGORIES} unique categories, kept in the
+ * order they were given in.
+ *
+ * </p> Unlike a {@code UniqueCategoryList}, it is not observable and cannot be changed, so it is
+ * small enough for every transaction to hold one: the categories are interned and kept in a single
+ * immutable list. Use {@link #toUniqueCategoryList()} for a copy which can be edited.
+ */
+public class CategorySet implements Iterable<Category> {
+
+    public static final CategorySet EMPTY = new CategorySet(List.of());
+
+    private final List<Category> categories;
+
+    private CategorySet(List<Category> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * Returns a {@code CategorySet} of the categories in {@code categoryList}.
+     */
+    public static CategorySet of(UniqueCategoryList categoryList) {
+        requireNonNull(categoryList);
+        return of(categoryList.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns a {@code CategorySet} of {@code categories}, in the same order.
+     * {@code categories} must not contain duplicate categories, nor more than the maximum number of them.
+     */
+    public static CategorySet of(List<Category> categories) {
+        requireNonNull(categories);
+        if (categories.isEmpty()) {
+            return EMPTY;
+        }
+        if (!UniqueCategoryList.categoriesAreUnique(categories)) {
+            throw new DuplicateCategoryException();
+        }
+        if (UniqueCategoryList.isMoreThanMax(categories)) {
+            throw new MaxCategoryException();
+        }
+
+        Category[] internedCategories = new Category[categories.size()];
+        for (int i = 0; i < internedCategories.length; i++) {
+            internedCategories[i] = categories.get(i).intern();
+        }
+        return new CategorySet(List.of(internedCategories));
+    }
+
+    /**
+     * Returns true if the set contains a category equal to {@code toCheck}.
+     */
+    public boolean contains(Category toCheck) {
+        requireNonNull(toCheck);
+        return categories.contains(toCheck);
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty();
+    }
+
+    public int getSize() {
+        return categories.size();
+    }
+
+    /**
+     * Returns the categories as an unmodifiable list, in the order they were given in.
+     */
+    public List<Category> asList() {
+        return categories;
+    }
+
+    /**
+     * Returns a new {@code UniqueCategoryList} with the same categories, which can be edited.
+     */
+    public UniqueCategoryList toUniqueCategoryList() {
+        return new UniqueCategoryList(new ArrayList<>(categories));
+    }
+
+    @Override
+    public Iterator<Category> iterator() {
+        return categories.iterator();
+    }
+
+    /**
+     * Returns true if both sets contain the same categories, in any order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CategorySet)) {
+            return false;
+        }
+
+        CategorySet otherSet = (CategorySet) other;
+        return categories.size() == otherSet.categories.size() && categories.containsAll(otherSet.categories);
+    }
+
+    /**
+     * Returns a hash code that ignores the order of categories, consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Category category : categories) {
+            hashCode += category.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return categories.toString();
+    }
+}
@@ -175,9 +175,16 @@ public class UniqueCategoryList implements Iterable<Category> {
         return new HashSet<>(internalList).equals(new HashSet<>(otherList.internalList));
     }
 
+    /**
+     * Returns a hash code that ignores the order of categories, consistent with {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        int hashCode = 0;
+        for (Category category : internalList) {
+            hashCode += category.hashCode();
+        }
+        return hashCode;
     }
 
     @Override
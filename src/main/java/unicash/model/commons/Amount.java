@@ -5,7 +5,8 @@ import static unicash.commons.util.AppUtil.checkArgument;
 /**
  * Represents a transaction or budget's amount.
  *
- * <p>Amounts are stored as a double and are rounded to the nearest 2 decimal places.</p>
+ * <p>Amounts are rounded to the nearest 2 decimal places and stored as a whole number of cents, so that
+ * sums of amounts can be accumulated exactly in a {@code long} from {@link #cents}.</p>
  *
  * <p>Amounts must be positive and cannot exceed the value of {@code Integer.MAX_VALUE}.</p>
  */
@@ -17,7 +18,9 @@ public class Amount {
     // Indicates the currency currently being used, set to dollar by default.
     public static final String CURRENCY_INDICATOR = "$";
 
-    public final double amount;
+    private static final int CENTS_PER_UNIT = 100;
+
+    public final long cents;
 
     /**
      * Constructs an {@code Amount}.
@@ -28,7 +31,7 @@ public class Amount {
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(amount);
+        this.cents = toCents(amount);
     }
 
     /**
@@ -45,7 +48,21 @@ public class Amount {
         double parsedAmount = Double.parseDouble(trimmedAmount.substring(starting));
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(parsedAmount);
+        this.cents = toCents(parsedAmount);
+    }
+
+    private Amount(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns an {@code Amount} of {@code cents} cents.
+     *
+     * @param cents A non-negative number of cents, not exceeding {@code Integer.MAX_VALUE} dollars.
+     */
+    public static Amount ofCents(long cents) {
+        checkArgument(cents >= 0 && cents <= (long) Integer.MAX_VALUE * CENTS_PER_UNIT, MESSAGE_CONSTRAINTS);
+        return new Amount(cents);
     }
 
     /**
@@ -79,9 +96,26 @@ public class Amount {
      * Returns a rounded two-decimal precision String version of an {@code Amount}.
      */
     public static String amountToDecimalString(Amount amt) {
-        return String.format("%.2f", amt.amount);
+        return centsToDecimalString(amt.cents);
     }
 
+    /**
+     * Returns a two-decimal precision String of a number of {@code cents}, such as a sum of amounts.
+     * Negative values are prefixed with a minus sign.
+     */
+    public static String centsToDecimalString(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / CENTS_PER_UNIT, absoluteCents % CENTS_PER_UNIT);
+    }
+
+    /**
+     * Returns the amount in dollars as a double.
+     * Sums of amounts should be accumulated from {@link #cents} instead to stay exact.
+     */
+    public double toDouble() {
+        return (double) cents / CENTS_PER_UNIT;
+    }
 
     /**
      * Returns the amount along as a string with no currency prefix.
@@ -90,16 +124,16 @@ public class Amount {
      * @return the amount as a String
      */
     public String amountString() {
-        return Double.toString(amount);
+        return Double.toString(toDouble());
     }
 
-    private static double round(double amount) {
-        return Math.round(amount * 100.0) / 100.0;
+    private static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_UNIT);
     }
 
     @Override
     public int hashCode() {
-        return Double.hashCode(amount);
+        return Long.hashCode(cents);
     }
 
     @Override
@@ -112,12 +146,12 @@ public class Amount {
             return false;
         }
 
-        return amount == ((Amount) other).amount;
+        return cents == ((Amount) other).cents;
     }
 
     @Override
     public String toString() {
-        return String.format("%s%.2f", CURRENCY_INDICATOR, amount);
+        return CURRENCY_INDICATOR + amountToDecimalString(this);
     }
 }
 
@@ -1,5 +1,6 @@
 package unicash.model.transaction;
 
+import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
@@ -12,6 +13,7 @@ import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.Optional;
 /**
  * Represents a Transaction's dateTime.
  * Guarantees: immutable;
@@ -33,6 +35,8 @@ public class DateTime {
                     .appendOptional(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN));
 
     private static final DateTimeFormatter DATETIME_FORMATTER = DATETIME_FORMATTER_BUILDER.toFormatter();
+    private static final DateTimeFormatter STRICT_DATETIME_FORMATTER =
+            DATETIME_FORMATTER.withResolverStyle(ResolverStyle.STRICT);
 
     private String originalDateTime;
     private LocalDateTime dateTime;
@@ -61,6 +65,34 @@ public class DateTime {
         init(dateTime, clock);
     }
 
+    private DateTime(String originalDateTime, LocalDateTime dateTime) {
+        this.originalDateTime = originalDateTime;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Returns a {@code DateTime} of {@code dateTime} truncated to the minute, without going
+     * through any of the accepted input formats. Its input string is in the storage format.
+     */
+    public static DateTime of(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return new DateTime(null, dateTime.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Returns the {@code DateTime} of {@code dateTime} if it is valid as declared in
+     * {@link #isValidDateTime(String)}, or an empty Optional otherwise. Unlike validating and
+     * then constructing a {@code DateTime}, the string is parsed only once.
+     */
+    public static Optional<DateTime> parse(String dateTime) {
+        requireNonNull(dateTime);
+        try {
+            return Optional.of(new DateTime(dateTime, LocalDateTime.parse(dateTime, STRICT_DATETIME_FORMATTER)));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Initialises the DateTime object when called by constructors.
      * Sets the dateTime based on given {@code dateTime} and {@code clock}.
@@ -90,7 +122,7 @@ public class DateTime {
      * @return text string of the LocalDateTime object
      */
     public String inputString() {
-        return originalDateTime;
+        return originalDateTime == null ? toString() : originalDateTime;
     }
 
     /**
@@ -106,7 +138,7 @@ public class DateTime {
      */
     public static boolean isValidDateTime(String dateString) {
         try {
-            LocalDateTime.parse(dateString, DATETIME_FORMATTER.withResolverStyle(ResolverStyle.STRICT));
+            LocalDateTime.parse(dateString, STRICT_DATETIME_FORMATTER);
         } catch (DateTimeParseException e) {
             return false;
         }
@@ -3,6 +3,9 @@ package unicash.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import unicash.commons.util.InternPool;
+import unicash.commons.util.ValidationUtil;
+
 /**
  * Represents a Transaction's location.
  */
@@ -17,6 +20,13 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_&#.,()@-][\\p{Alnum} _&#.,()@-]{0,499}";
 
+    public static final int MAX_LENGTH = 500;
+
+    // The symbols which may appear in a location besides letters and digits, as in VALIDATION_REGEX
+    private static final String SYMBOLS = "_&#.,()@-";
+
+    private static final InternPool<Location> POOL = new InternPool<>();
+
     public final String location;
 
     /**
@@ -25,20 +35,32 @@ public class Location {
      * @param location A valid location.
      */
     public Location(String location) {
+        this(location, false);
+    }
+
+    private Location(String location, boolean isValidated) {
         requireNonNull(location);
         if (location.isBlank()) {
             this.location = "-";
         } else {
-            checkArgument(isValidLocation(location), MESSAGE_CONSTRAINTS);
+            checkArgument(isValidated || isValidLocation(location), MESSAGE_CONSTRAINTS);
             this.location = location;
         }
     }
 
+    /**
+     * Returns a {@code Location} of {@code location} without checking it against {@link #VALIDATION_REGEX}.
+     * Only for a location which has already been validated, such as one read back from storage.
+     */
+    public static Location ofValidated(String location) {
+        return new Location(location, true);
+    }
+
     /**
      * Returns true if a given string is a valid location.
      */
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, SYMBOLS, true, MAX_LENGTH);
     }
 
 
@@ -47,6 +69,13 @@ public class Location {
         return location;
     }
 
+    /**
+     * Returns the canonical {@code Location} equal to this one, which every equal location can share.
+     */
+    public Location intern() {
+        return POOL.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
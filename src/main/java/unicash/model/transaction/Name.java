@@ -3,6 +3,8 @@ package unicash.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import unicash.commons.util.ValidationUtil;
+
 /**
  * Represents a Transaction's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,11 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}_&#.,()@-][\\p{Alnum} _&#.,()@-]{0,499}$";
 
+    public static final int MAX_LENGTH = 500;
+
+    // The symbols which may appear in a name besides letters and digits, as in VALIDATION_REGEX
+    private static final String SYMBOLS = "_&#.,()@-";
+
     public final String fullName;
 
     /**
@@ -27,16 +34,28 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isValidated) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidated || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking it against {@link #VALIDATION_REGEX}.
+     * Only for a name which has already been validated, such as one read back from storage.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, SYMBOLS, true, MAX_LENGTH);
     }
 
     @Override
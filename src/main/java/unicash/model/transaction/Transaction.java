@@ -1,28 +1,34 @@
 package unicash.model.transaction;
 
+import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.category.CategorySet;
 import unicash.model.category.UniqueCategoryList;
 import unicash.model.commons.Amount;
 
 /**
  * Represents a Transaction in UniCash.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * </p> The location and categories of a transaction are interned, as they are shared by many transactions,
+ * and the categories are held in an immutable {@code CategorySet} rather than an observable list.
  */
 public class Transaction {
+    private final TransactionId id;
     private final Name name;
     private final Amount amount;
     private final DateTime dateTime;
     private final Location location;
     private final Type type;
-    private final UniqueCategoryList categories = new UniqueCategoryList();
+    private final CategorySet categories;
 
 
     /**
-     * Constructs a Transaction with all fields populated.
+     * Constructs a Transaction with all fields populated and a freshly generated id.
      * Guarantees: details are present and not null, field values are validated, immutable.
      */
     public Transaction(
@@ -33,13 +39,53 @@ public class Transaction {
         Location location,
         UniqueCategoryList categories
     ) {
-        requireAllNonNull(name, type, amount, categories, dateTime, location);
+        this(TransactionId.generate(), name, type, amount, dateTime, location, categories);
+    }
+
+    /**
+     * Constructs a Transaction with all fields populated, including its {@code id}.
+     * Guarantees: details are present and not null, field values are validated, immutable.
+     */
+    public Transaction(
+        TransactionId id,
+        Name name,
+        Type type,
+        Amount amount,
+        DateTime dateTime,
+        Location location,
+        UniqueCategoryList categories
+    ) {
+        this(id, name, type, amount, dateTime, location, CategorySet.of(requireNonNull(categories)));
+    }
+
+    private Transaction(
+        TransactionId id,
+        Name name,
+        Type type,
+        Amount amount,
+        DateTime dateTime,
+        Location location,
+        CategorySet categories
+    ) {
+        requireAllNonNull(id, name, type, amount, categories, dateTime, location);
+        this.id = id;
         this.name = name;
         this.type = type;
         this.amount = amount;
         this.dateTime = dateTime;
-        this.location = location;
-        this.categories.setCategories(categories);
+        this.location = location.intern();
+        this.categories = categories;
+    }
+
+    public TransactionId getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this Transaction with the same details but identified by {@code id}.
+     */
+    public Transaction withId(TransactionId id) {
+        return new Transaction(id, name, type, amount, dateTime, location, categories);
     }
 
     public Name getName() {
@@ -51,7 +97,7 @@ public class Transaction {
     }
 
     public Double getAmountAsDouble() {
-        return amount.amount;
+        return amount.toDouble();
     }
 
     public DateTime getDateTime() {
@@ -75,7 +121,7 @@ public class Transaction {
         return type.type.getOriginalString();
     }
 
-    public UniqueCategoryList getCategories() {
+    public CategorySet getCategories() {
         return categories;
     }
 
@@ -84,18 +130,10 @@ public class Transaction {
         return Objects.hash(name, amount, dateTime, location, type, categories);
     }
 
-    /**
-     * Returns the original hashcode of this object.
-     *
-     * @return the original hashcode.
-     */
-    public int originalHashCode() {
-        return super.hashCode();
-    }
-
     /**
      * Returns true if both transactions have the same data fields.
      * This defines a stronger notion of equality between two transactions.
+     * The {@code id} is deliberately left out, as it identifies a stored entry rather than its contents.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,73 @@
+package unicash.model.transaction;
+
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a Transaction's stable identifier.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ *
+ * </p> Unlike the identity hash code of a {@code Transaction} object, an id is
+ * persisted with the transaction and survives edits, so that the same logical
+ * transaction can be located in a {@code TransactionList} in constant time.
+ * Ids are handed out from a process-wide counter which is always kept ahead of
+ * every id that has been seen, including those read back from storage.
+ */
+public class TransactionId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Transaction ids should be positive integers.";
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    public final long id;
+
+    /**
+     * Constructs a {@code TransactionId}.
+     *
+     * @param id A valid id.
+     */
+    public TransactionId(long id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        this.id = id;
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Returns a new {@code TransactionId} that has not been handed out before.
+     */
+    public static TransactionId generate() {
+        return new TransactionId(nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns true if a given value is a valid id.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(id);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionId)) {
+            return false;
+        }
+
+        return id == ((TransactionId) other).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+}
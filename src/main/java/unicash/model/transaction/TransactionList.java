@@ -1,26 +1,48 @@
 package unicash.model.transaction;
 
 import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * A list of Transactions that does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * </p> Every stored Transaction has a distinct {@code TransactionId}, and an index from
+ * id to position is kept in sync with the backing list so that edits and removals
+ * locate their target without scanning the list. A count of stored Transactions by
+ * content is maintained alongside, so that duplicate checks do not scan either, as
+ * is a chronological index which answers date range queries and sums without a full
+ * scan, and a {@code TransactionSearchIndex} over the searchable text of every Transaction.
  */
 public class TransactionList implements Iterable<Transaction> {
-    public static final int MAX_TRANSACTIONS = 100000;
-    public static final String MESSAGE_SIZE_CONSTRAINTS =
-            "UniCa$h supports up to a maximum of 100,000 transactions.";
+    public static final int DEFAULT_MAX_TRANSACTIONS = 100000;
+    public static final int MAX_TRANSACTIONS_LIMIT = 10000000;
+    public static final String MESSAGE_SIZE_CONSTRAINTS_FORMAT =
+            "UniCa$h supports up to a maximum of %,d transactions.";
+    public static final String MESSAGE_INVALID_MAX_TRANSACTIONS =
+            String.format(Locale.ROOT, "The maximum number of transactions should be from 1 to %,d.",
+                    MAX_TRANSACTIONS_LIMIT);
 
     private static final Logger logger = Logger.getLogger("TransactionListLogger");
     private static final String TRANSACTION_NOT_FOUND_LOG = "Transaction not found in TransactionList!";
@@ -29,23 +51,57 @@ public class TransactionList implements Iterable<Transaction> {
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Maps the id of every stored Transaction to its position in internalList
+    private final Map<TransactionId, Integer> positions = new HashMap<>();
+
+    // Counts the stored Transactions by content, so that equivalent Transactions are found by hashing
+    private final Map<Transaction, Integer> occurrences = new HashMap<>();
+
+    // Groups the stored Transactions by their date time, in chronological order
+    private final NavigableMap<LocalDateTime, List<Transaction>> byDateTime = new TreeMap<>();
+
+    private final TransactionSearchIndex searchIndex = new TransactionSearchIndex();
+
+    private final int maxTransactions;
+
+    /**
+     * Creates an empty list holding up to {@link #DEFAULT_MAX_TRANSACTIONS} Transactions.
+     */
+    public TransactionList() {
+        this(DEFAULT_MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates an empty list holding up to {@code maxTransactions} Transactions, which must be from 1 to
+     * {@link #MAX_TRANSACTIONS_LIMIT}.
+     */
+    public TransactionList(int maxTransactions) {
+        checkArgument(maxTransactions > 0 && maxTransactions <= MAX_TRANSACTIONS_LIMIT,
+                MESSAGE_INVALID_MAX_TRANSACTIONS);
+        this.maxTransactions = maxTransactions;
+    }
+
     /**
      * Returns true if the list contains an equivalent Transaction as the given argument.
      */
     public boolean contains(Transaction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return occurrences.containsKey(toCheck);
     }
 
     /**
      * Adds a Transaction to the list.
+     * If a Transaction with the same id is already in the list, {@code toAdd} is stored under a new id instead.
      */
     public void add(Transaction toAdd) {
         requireNonNull(toAdd);
         if (isFull()) {
             throw new MaxTransactionException();
         }
-        internalList.add(toAdd);
+        Transaction uniquelyIdentified = ensureUniqueId(toAdd);
+        positions.put(uniquelyIdentified.getId(), internalList.size());
+        addToIndexes(uniquelyIdentified);
+        internalList.add(uniquelyIdentified);
     }
 
 
@@ -56,24 +112,14 @@ public class TransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireAllNonNull(target, editedTransaction);
 
-        int targetHashCode = target.originalHashCode();
-        int targetIndex = -1;
-
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
-            }
-        }
-
-
-        if (targetIndex == -1) {
-            logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
-            throw new TransactionNotFoundException();
-        }
-
-        internalList.set(targetIndex, editedTransaction);
+        int targetIndex = indexOf(target);
+        positions.remove(target.getId());
+        removeFromIndexes(internalList.get(targetIndex));
 
+        Transaction uniquelyIdentified = ensureUniqueId(editedTransaction);
+        positions.put(uniquelyIdentified.getId(), targetIndex);
+        addToIndexes(uniquelyIdentified);
+        internalList.set(targetIndex, uniquelyIdentified);
     }
 
     /**
@@ -83,29 +129,22 @@ public class TransactionList implements Iterable<Transaction> {
     public void remove(Transaction toRemove) {
         requireNonNull(toRemove);
 
-        int targetHashCode = toRemove.originalHashCode();
-        int targetIndex = -1;
-
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
-            }
-        }
+        int targetIndex = indexOf(toRemove);
+        positions.remove(toRemove.getId());
+        removeFromIndexes(internalList.get(targetIndex));
+        internalList.remove(targetIndex);
 
-        if (targetIndex == -1) {
-            logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
-            throw new TransactionNotFoundException();
+        // Transactions after the removed one have shifted down by one position
+        for (int i = targetIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
         }
-
-        internalList.remove(targetIndex);
     }
 
     /**
      * Returns true if the storage is full, false otherwise.
      */
     public boolean isFull() {
-        return internalList.size() == MAX_TRANSACTIONS;
+        return internalList.size() >= maxTransactions;
     }
 
     /**
@@ -114,6 +153,15 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void setTransactions(TransactionList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        occurrences.clear();
+        occurrences.putAll(replacement.occurrences);
+        byDateTime.clear();
+        replacement.byDateTime.forEach((dateTime, transactions) ->
+                byDateTime.put(dateTime, new ArrayList<>(transactions)));
+        searchIndex.clear();
+        replacement.internalList.forEach(searchIndex::add);
         internalList.setAll(replacement.internalList);
     }
 
@@ -127,7 +175,135 @@ public class TransactionList implements Iterable<Transaction> {
             throw new MaxTransactionException();
         }
 
-        internalList.setAll(transactions);
+        positions.clear();
+        occurrences.clear();
+        byDateTime.clear();
+        searchIndex.clear();
+        List<Transaction> uniquelyIdentified = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            Transaction toStore = ensureUniqueId(transaction);
+            positions.put(toStore.getId(), uniquelyIdentified.size());
+            addToIndexes(toStore);
+            uniquelyIdentified.add(toStore);
+        }
+        internalList.setAll(uniquelyIdentified);
+    }
+
+    /**
+     * Inserts {@code transactions} in order before every Transaction in the list.
+     * {@code transactions} must not contain null.
+     */
+    public void addAllToFront(List<Transaction> transactions) {
+        requireAllNonNull(transactions);
+        if (internalList.size() + transactions.size() > maxTransactions) {
+            throw new MaxTransactionException();
+        }
+
+        List<Transaction> uniquelyIdentified = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            Transaction toStore = ensureUniqueId(transaction);
+            positions.put(toStore.getId(), uniquelyIdentified.size());
+            addToIndexes(toStore);
+            uniquelyIdentified.add(toStore);
+        }
+        internalList.addAll(0, uniquelyIdentified);
+
+        // Transactions already in the list have shifted up past the inserted ones
+        for (int i = uniquelyIdentified.size(); i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns the position of the stored Transaction sharing the id of {@code transaction}.
+     *
+     * @throws TransactionNotFoundException if no such Transaction exists in the list.
+     */
+    private int indexOf(Transaction transaction) {
+        Integer index = positions.get(transaction.getId());
+        if (index == null) {
+            logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
+            throw new TransactionNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the Transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (!start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+
+        List<Transaction> transactionsBetween = new ArrayList<>();
+        byDateTime.subMap(start, true, end, false).values().forEach(transactionsBetween::addAll);
+        return Collections.unmodifiableList(transactionsBetween);
+    }
+
+    /**
+     * Returns the total amount in cents of the Transactions of type {@code type} dated from {@code start}
+     * (inclusive) to {@code end} (exclusive), counting only those in {@code category} if it is not null.
+     */
+    public long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end,
+            Category category) {
+        requireAllNonNull(type, start, end);
+        if (!start.isBefore(end)) {
+            return 0;
+        }
+
+        long total = 0;
+        for (List<Transaction> transactionsAtDateTime : byDateTime.subMap(start, true, end, false).values()) {
+            for (Transaction transaction : transactionsAtDateTime) {
+                if (transaction.getType().type.equals(type)
+                        && (category == null || transaction.getCategories().contains(category))) {
+                    total += transaction.getAmount().cents;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the search index over the Transactions in this list.
+     */
+    public TransactionSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Records {@code transaction} in the content, date time and search indexes.
+     */
+    private void addToIndexes(Transaction transaction) {
+        occurrences.merge(transaction, 1, Integer::sum);
+        searchIndex.add(transaction);
+        byDateTime.computeIfAbsent(transaction.getDateTime().getDateTime(), unused -> new ArrayList<>(1))
+                .add(transaction);
+    }
+
+    /**
+     * Removes the stored {@code transaction} from the content, date time and search indexes.
+     */
+    private void removeFromIndexes(Transaction transaction) {
+        occurrences.computeIfPresent(transaction, (unused, count) -> count == 1 ? null : count - 1);
+        searchIndex.remove(transaction);
+        byDateTime.computeIfPresent(transaction.getDateTime().getDateTime(), (unused, transactions) -> {
+            transactions.removeIf(t -> t.getId().equals(transaction.getId()));
+            return transactions.isEmpty() ? null : transactions;
+        });
+    }
+
+    /**
+     * Returns {@code transaction} if its id is not yet used in this list,
+     * or a copy of it under a newly generated id otherwise.
+     */
+    private Transaction ensureUniqueId(Transaction transaction) {
+        if (!positions.containsKey(transaction.getId())) {
+            return transaction;
+        }
+        return transaction.withId(TransactionId.generate());
     }
 
     /**
@@ -158,10 +334,24 @@ public class TransactionList implements Iterable<Transaction> {
     }
 
     /**
-     * Returns true if a given list of transactions is less than the maximum allowed transactions.
+     * Returns the maximum number of Transactions in this list.
+     */
+    public int getMaxTransactions() {
+        return maxTransactions;
+    }
+
+    /**
+     * Returns the message explaining that no more than {@code maxTransactions} Transactions can be held.
+     */
+    public static String getSizeConstraintsMessage(int maxTransactions) {
+        return String.format(Locale.ROOT, MESSAGE_SIZE_CONSTRAINTS_FORMAT, maxTransactions);
+    }
+
+    /**
+     * Returns true if a given list of transactions is more than the maximum allowed in this list.
      */
-    public static boolean isMoreThanMax(List<Transaction> transactions) {
-        return transactions.size() > MAX_TRANSACTIONS;
+    public boolean isMoreThanMax(List<Transaction> transactions) {
+        return transactions.size() > maxTransactions;
     }
 
     @Override
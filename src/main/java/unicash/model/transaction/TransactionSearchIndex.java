@@ -0,0 +1,268 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import unicash.model.category.Category;
+
+/**
+ * An inverted index over the lowercased name, location and categories of Transactions,
+ * used to answer substring searches without testing every Transaction.
+ *
+ * </p> Each distinct indexed value maps to the ids of the Transactions which have it, and is
+ * broken into its trigrams (substrings of three characters), each of which maps to the distinct
+ * values containing it. A search intersects the posting lists of the keyword's trigrams to find
+ * the candidate values, then verifies each candidate, since sharing every trigram does not
+ * guarantee a substring match. Keywords shorter than a trigram cannot be narrowed down this way,
+ * so every distinct value is verified instead.
+ *
+ * </p> Locations and categories repeat across many Transactions, so their trigrams are indexed once
+ * per distinct value rather than once per Transaction, which keeps the index small for large lists.
+ *
+ * </p> Values and keywords are lowercased with {@code Locale.ROOT}, so that results do not depend
+ * on the default locale and agree with {@code StringUtil#containsSubstringIgnoreCase}.
+ *
+ * </p> The index is maintained by {@code TransactionList} on every mutation. Its
+ * modification count lets callers tell when previously computed results are stale, and
+ * the most recent changes are remembered, so that those results can be brought up to date
+ * by applying the changes instead of searching again.
+ */
+public class TransactionSearchIndex {
+
+    /**
+     * The properties of a {@code Transaction} that can be searched.
+     */
+    public enum Field {
+        NAME, LOCATION, CATEGORY
+    }
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_RECENT_CHANGES = 1024;
+
+    private final Map<Field, Map<String, Set<String>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<TransactionId>>> idsByValue = new EnumMap<>(Field.class);
+
+    // The last changes made, oldest first, each of which incremented the modification count by one
+    private final ArrayDeque<Change> recentChanges = new ArrayDeque<>();
+    private int modificationCount = 0;
+
+    /**
+     * Creates an empty {@code TransactionSearchIndex}.
+     */
+    TransactionSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+            idsByValue.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes the name, location and categories of {@code transaction} under its id.
+     */
+    void add(Transaction transaction) {
+        requireNonNull(transaction);
+        TransactionId id = transaction.getId();
+        for (Field field : Field.values()) {
+            Map<String, Set<TransactionId>> fieldIds = idsByValue.get(field);
+            for (String value : getLowercasedValues(field, transaction)) {
+                fieldIds.computeIfAbsent(value, newValue -> {
+                    indexGrams(field, newValue);
+                    return new HashSet<>();
+                }).add(id);
+            }
+        }
+        recordChange(new Change(transaction, true));
+    }
+
+    /**
+     * Removes {@code transaction}, which must have been indexed, from the index.
+     */
+    void remove(Transaction transaction) {
+        requireNonNull(transaction);
+        TransactionId id = transaction.getId();
+        for (Field field : Field.values()) {
+            Map<String, Set<TransactionId>> fieldIds = idsByValue.get(field);
+            for (String value : getLowercasedValues(field, transaction)) {
+                fieldIds.computeIfPresent(value, (unused, ids) -> {
+                    ids.remove(id);
+                    if (!ids.isEmpty()) {
+                        return ids;
+                    }
+                    unindexGrams(field, value);
+                    return null;
+                });
+            }
+        }
+        recordChange(new Change(transaction, false));
+    }
+
+    /**
+     * Removes every indexed Transaction. The changes made before are forgotten.
+     */
+    void clear() {
+        postings.values().forEach(Map::clear);
+        idsByValue.values().forEach(Map::clear);
+        recentChanges.clear();
+        modificationCount++;
+    }
+
+    private void recordChange(Change change) {
+        if (recentChanges.size() == MAX_RECENT_CHANGES) {
+            recentChanges.removeFirst();
+        }
+        recentChanges.addLast(change);
+        modificationCount++;
+    }
+
+    private static List<String> getLowercasedValues(Field field, Transaction transaction) {
+        switch (field) {
+        case NAME:
+            return List.of(transaction.getName().fullName.toLowerCase(Locale.ROOT));
+        case LOCATION:
+            return List.of(transaction.getLocation().location.toLowerCase(Locale.ROOT));
+        case CATEGORY:
+            List<String> categories = new ArrayList<>(transaction.getCategories().getSize());
+            for (Category category : transaction.getCategories()) {
+                categories.add(category.category.toLowerCase(Locale.ROOT));
+            }
+            return categories;
+        default:
+            throw new AssertionError(field);
+        }
+    }
+
+    private void indexGrams(Field field, String value) {
+        Map<String, Set<String>> fieldPostings = postings.get(field);
+        for (String gram : gramsOf(value)) {
+            fieldPostings.computeIfAbsent(gram, unused -> new HashSet<>()).add(value);
+        }
+    }
+
+    private void unindexGrams(Field field, String value) {
+        Map<String, Set<String>> fieldPostings = postings.get(field);
+        for (String gram : gramsOf(value)) {
+            fieldPostings.computeIfPresent(gram, (unused, values) -> {
+                values.remove(value);
+                return values.isEmpty() ? null : values;
+            });
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code value}.
+     */
+    private static Set<String> gramsOf(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the ids of the Transactions with a {@code field} value containing {@code keyword}
+     * as a substring, ignoring case. For {@link Field#CATEGORY}, any one category has to contain it.
+     *
+     * @param field the property of the Transactions to search
+     * @param keyword cannot be null or blank
+     */
+    public Set<TransactionId> search(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
+
+        Map<String, Set<TransactionId>> fieldIds = idsByValue.get(field);
+        Set<TransactionId> matches = new HashSet<>();
+        for (String value : getCandidates(field, preppedKeyword)) {
+            if (value.contains(preppedKeyword)) {
+                matches.addAll(fieldIds.get(value));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the distinct {@code field} values sharing every trigram of the lowercased
+     * {@code keyword}, or every distinct value if the keyword has no trigrams.
+     */
+    private Set<String> getCandidates(Field field, String keyword) {
+        Set<String> grams = gramsOf(keyword);
+        if (grams.isEmpty()) {
+            return idsByValue.get(field).keySet();
+        }
+
+        Map<String, Set<String>> fieldPostings = postings.get(field);
+        List<Set<String>> postingLists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<String> values = fieldPostings.get(gram);
+            if (values == null) {
+                return Collections.emptySet();
+            }
+            postingLists.add(values);
+        }
+
+        // Walk the shortest posting list, probing the others
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>();
+        for (String value : postingLists.get(0)) {
+            if (postingLists.stream().skip(1).allMatch(values -> values.contains(value))) {
+                candidates.add(value);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of changes made to this index so far, so that search
+     * results can be recomputed once they may have become stale.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the changes made to this index since its modification count was {@code modificationCount},
+     * oldest first, or null if they are no longer all remembered.
+     */
+    public List<Change> getChangesSince(int modificationCount) {
+        int changeCount = this.modificationCount - modificationCount;
+        if (changeCount < 0 || changeCount > recentChanges.size()) {
+            return null;
+        }
+
+        List<Change> changes = new ArrayList<>(changeCount);
+        Iterator<Change> newestFirst = recentChanges.descendingIterator();
+        for (int i = 0; i < changeCount; i++) {
+            changes.add(newestFirst.next());
+        }
+        Collections.reverse(changes);
+        return changes;
+    }
+
+    /**
+     * A {@code Transaction} added to or removed from the index.
+     */
+    public static class Change {
+        public final Transaction transaction;
+        public final boolean isAdded;
+
+        private Change(Transaction transaction, boolean isAdded) {
+            this.transaction = transaction;
+            this.isAdded = isAdded;
+        }
+    }
+}
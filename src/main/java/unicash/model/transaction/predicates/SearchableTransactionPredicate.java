@@ -0,0 +1,22 @@
+package unicash.model.transaction.predicates;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+import unicash.model.transaction.TransactionSearchIndex;
+
+/**
+ * A {@code Predicate<Transaction>} which can also be answered by looking up a
+ * {@code TransactionSearchIndex}, instead of being tested against every Transaction.
+ */
+public interface SearchableTransactionPredicate extends Predicate<Transaction> {
+
+    /**
+     * Returns the ids of the Transactions in {@code index} that this predicate accepts.
+     *
+     * @param index the search index over the Transactions to be matched
+     */
+    Set<TransactionId> search(TransactionSearchIndex index);
+}
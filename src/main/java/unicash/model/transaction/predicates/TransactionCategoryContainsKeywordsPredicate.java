@@ -1,18 +1,22 @@
 package unicash.model.transaction.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+import unicash.model.transaction.TransactionSearchIndex;
 
 /**
  * Tests that a {@code Transactions}'s {@code UniqueCategoryList} matches any of
  * the keywords given.
  */
 public class TransactionCategoryContainsKeywordsPredicate
-        implements Predicate<Transaction> {
+        implements SearchableTransactionPredicate {
 
     private final List<String> keywords;
 
@@ -31,28 +35,39 @@ public class TransactionCategoryContainsKeywordsPredicate
      * of the Transaction contains any of the keywords in the keywords list
      * as a substring.
      *
-     * <p> A nested anyMatch compares each keyword for each category directly in the
-     * {@code UniqueCategoryList}. This removes any dependency on {@code UniqueCategoryList}'s
-     * representation of the Categories.
+     * <p> Each keyword is compared against each category by iterating directly over the
+     * {@code UniqueCategoryList}, so that no copy of the Categories is made per Transaction.
      *
      * @param transaction the input {@code Transaction} object to be tested
      */
     @Override
     public boolean test(Transaction transaction) {
-        return keywords
-                .stream()
-                .anyMatch(keyword -> transaction
-                        .getCategories()
-                        .joinCategoriesAsList()
-                        .stream()
-                        .anyMatch(category ->
-                                    StringUtil.containsSubstringIgnoreCase(
-                                            category.toString(), keyword)
-                                )
-                );
+        for (String keyword : keywords) {
+            for (Category category : transaction.getCategories()) {
+                if (StringUtil.containsSubstringIgnoreCase(category.category, keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
 
+    /**
+     * Returns the ids of the Transactions in {@code index} with a {@code Category}
+     * containing any of the keywords in the keywords list as a substring.
+     *
+     * @param index the search index over the Transactions to be matched
+     */
+    @Override
+    public Set<TransactionId> search(TransactionSearchIndex index) {
+        Set<TransactionId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(index.search(TransactionSearchIndex.Field.CATEGORY, keyword));
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,12 +1,18 @@
 package unicash.model.transaction.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import unicash.commons.util.ToStringBuilder;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+import unicash.model.transaction.TransactionSearchIndex;
 
 
 /**
@@ -22,6 +28,11 @@ import unicash.model.transaction.Transaction;
  * </p> Encapsulated within is a list of transaction predicates, and this list can be accessed
  * publicly, and modified. The overriding test method returns true only if the input Transaction
  * matches all predicates in this list.
+ *
+ * </p> When the Transactions being filtered are covered by a {@code TransactionSearchIndex},
+ * {@link #using(TransactionSearchIndex)} gives an equivalent predicate which answers the
+ * searchable property predicates through the index, instead of testing each of them against
+ * every Transaction.
  */
 public class TransactionContainsAllKeywordsPredicate implements Predicate<Transaction> {
 
@@ -62,6 +73,18 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
     }
 
 
+    /**
+     * Returns a predicate equivalent to this one, which resolves every
+     * {@code SearchableTransactionPredicate} in the encapsulated list through {@code index}.
+     * Only Transactions covered by {@code index} may be tested with the returned predicate.
+     *
+     * @param index the search index over the Transactions to be tested
+     */
+    public Predicate<Transaction> using(TransactionSearchIndex index) {
+        requireNonNull(index);
+        return new IndexedPredicate(new ArrayList<>(predicateList), index);
+    }
+
     /**
      * Creates a new {@code TransactionNameContainsKeywordsPredicate} with the
      * given name as a string and adds this to the encapsulated list of
@@ -119,10 +142,98 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
      * @return the keyword as a single List.
      */
     private static List<String> toKeywordList(String keyword) {
-        return Collections.singletonList(keyword.toLowerCase());
+        return Collections.singletonList(keyword.toLowerCase(Locale.ROOT));
     }
 
 
+    /**
+     * A {@code TransactionContainsAllKeywordsPredicate} bound to a {@code TransactionSearchIndex}.
+     *
+     * </p> The ids matched by the searchable predicates are looked up once and intersected,
+     * so that testing a Transaction is a single set lookup followed by any predicates that
+     * cannot be searched. When the index changes, the Transactions added and removed since
+     * are applied to the matched ids, so that the predicate stays correct as Transactions
+     * are added, edited and removed without searching again. The lookup is only repeated
+     * once the index no longer remembers every change since.
+     */
+    private static class IndexedPredicate implements Predicate<Transaction> {
+
+        private final List<SearchableTransactionPredicate> searchablePredicates = new ArrayList<>();
+        private final List<Predicate<Transaction>> otherPredicates = new ArrayList<>();
+        private final boolean isEmpty;
+        private final TransactionSearchIndex index;
+
+        private Set<TransactionId> matches;
+        private int searchedAtModificationCount;
+
+        private IndexedPredicate(List<Predicate<Transaction>> predicateList, TransactionSearchIndex index) {
+            for (Predicate<Transaction> predicate : predicateList) {
+                if (predicate instanceof SearchableTransactionPredicate) {
+                    searchablePredicates.add((SearchableTransactionPredicate) predicate);
+                } else {
+                    otherPredicates.add(predicate);
+                }
+            }
+            this.isEmpty = predicateList.isEmpty();
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Transaction transaction) {
+            if (isEmpty) {
+                return false;
+            }
+
+            if (!searchablePredicates.isEmpty()) {
+                if (matches == null) {
+                    search();
+                } else if (searchedAtModificationCount != index.getModificationCount()) {
+                    applyChanges();
+                }
+                if (!matches.contains(transaction.getId())) {
+                    return false;
+                }
+            }
+
+            return otherPredicates.stream()
+                    .allMatch(predicate -> predicate.test(transaction));
+        }
+
+        /**
+         * Intersects the ids matched by every searchable predicate, starting from the first.
+         */
+        private void search() {
+            matches = searchablePredicates.get(0).search(index);
+            for (int i = 1; i < searchablePredicates.size() && !matches.isEmpty(); i++) {
+                matches.retainAll(searchablePredicates.get(i).search(index));
+            }
+            searchedAtModificationCount = index.getModificationCount();
+        }
+
+        /**
+         * Brings the matched ids up to date with the changes made to the index since they were found,
+         * testing each added Transaction against the searchable predicates directly.
+         */
+        private void applyChanges() {
+            List<TransactionSearchIndex.Change> changes = index.getChangesSince(searchedAtModificationCount);
+            if (changes == null) {
+                search();
+                return;
+            }
+
+            for (TransactionSearchIndex.Change change : changes) {
+                TransactionId id = change.transaction.getId();
+                if (change.isAdded && searchablePredicates.stream()
+                        .allMatch(predicate -> predicate.test(change.transaction))) {
+                    matches.add(id);
+                } else {
+                    matches.remove(id);
+                }
+            }
+            searchedAtModificationCount = index.getModificationCount();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
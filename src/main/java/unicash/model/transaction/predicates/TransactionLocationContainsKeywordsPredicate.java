@@ -1,17 +1,20 @@
 package unicash.model.transaction.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+import unicash.model.transaction.TransactionSearchIndex;
 
 /**
  * Tests that a {@code Transactions}'s {@code Location} matches any of the keywords given.
  */
 public class TransactionLocationContainsKeywordsPredicate
-        implements Predicate<Transaction> {
+        implements SearchableTransactionPredicate {
 
     private final List<String> keywords;
 
@@ -38,6 +41,21 @@ public class TransactionLocationContainsKeywordsPredicate
                         transaction.getLocation().toString(), keyword));
     }
 
+    /**
+     * Returns the ids of the Transactions in {@code index} with a {@code Location}
+     * containing any of the keywords in the keywords list as a substring.
+     *
+     * @param index the search index over the Transactions to be matched
+     */
+    @Override
+    public Set<TransactionId> search(TransactionSearchIndex index) {
+        Set<TransactionId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(index.search(TransactionSearchIndex.Field.LOCATION, keyword));
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,142 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.UniCashSnapshot;
+
+/**
+ * Saves UniCash data to a {@code UniCashStorage} on a background thread, so that callers
+ * never wait for a write to finish.
+ *
+ * </p> Every save request captures an immutable {@code UniCashSnapshot} on the calling thread,
+ * so the data may go on changing while it is being written. Only the latest snapshot waiting
+ * to be written is kept: requests made while a write is in progress replace one another and
+ * are then written once, which coalesces a burst of saves into a single write.
+ *
+ * </p> For storage which can save just the changes to the data, a snapshot of the same {@code UniCash}
+ * as the last one written successfully holds only the changes made since that one was taken, when
+ * they are still remembered, instead of a copy of every transaction. Changes already written by a
+ * later save are skipped by the storage. After a failed save, the next snapshot is a full copy.
+ *
+ * </p> Failed saves are reported to the failure handler on the background thread.
+ */
+public class BackgroundUniCashSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundUniCashSaver.class);
+
+    private final UniCashStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "UniCash saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Guarded by this saver
+    private UniCashSnapshot pendingSnapshot = null;
+    private ReadOnlyUniCash pendingSource = null;
+    private ReadOnlyUniCash savedSource = null;
+    private long savedChangeCount = UniCashSnapshot.NO_CHANGE_COUNT;
+
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+
+    /**
+     * Constructs a {@code BackgroundUniCashSaver} which writes to {@code storage}.
+     */
+    public BackgroundUniCashSaver(UniCashStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler which is given the cause of every failed save.
+     * It is called on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code uniCash} and schedules it to be written, replacing any
+     * snapshot that has not started being written yet.
+     */
+    public void save(ReadOnlyUniCash uniCash) {
+        requireNonNull(uniCash);
+        boolean isWriteScheduled;
+        synchronized (this) {
+            // A write is only scheduled if none is waiting to pick up the pending snapshot
+            isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = takeSnapshot(uniCash);
+            pendingSource = uniCash;
+        }
+        if (!isWriteScheduled) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns a snapshot of just the changes to {@code uniCash} since it was last saved, if the storage
+     * can save those and they are still remembered, or a snapshot holding a copy of its data otherwise.
+     */
+    private UniCashSnapshot takeSnapshot(ReadOnlyUniCash uniCash) {
+        if (uniCash == savedSource && storage.canSaveChanges()) {
+            Optional<UniCashSnapshot> changes = UniCashSnapshot.ofChangesSince((UniCash) uniCash, savedChangeCount);
+            if (changes.isPresent()) {
+                return changes.get();
+            }
+        }
+        return new UniCashSnapshot(uniCash);
+    }
+
+    private void writePendingSnapshot() {
+        UniCashSnapshot snapshot;
+        ReadOnlyUniCash source;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            source = pendingSource;
+            if (snapshot == null) {
+                return;
+            }
+            pendingSnapshot = null;
+            pendingSource = null;
+        }
+
+        try {
+            storage.saveUniCash(snapshot);
+            synchronized (this) {
+                savedSource = source instanceof UniCash ? source : null;
+                savedChangeCount = snapshot.getChangeCount();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save UniCash data: " + e);
+            synchronized (this) {
+                savedSource = null;
+                savedChangeCount = UniCashSnapshot.NO_CHANGE_COUNT;
+            }
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot scheduled so far has been written, or has failed to be.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
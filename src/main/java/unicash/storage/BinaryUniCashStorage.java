@@ -0,0 +1,392 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.enums.BudgetInterval;
+import unicash.commons.enums.TransactionType;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.budget.Interval;
+import unicash.model.category.Category;
+import unicash.model.category.UniqueCategoryList;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+import unicash.model.transaction.Type;
+
+/**
+ * A class to access UniCash data stored in a compact binary file on the hard disk.
+ *
+ * </p> The file starts with a magic number and a format version, followed by a table of
+ * the distinct locations and category names, the transactions and then the budget. Each
+ * transaction refers to its location and categories by their index in the table, keeps
+ * its date and time as minutes since the epoch and its amount as a number of cents.
+ * Strings are length-prefixed, and so is every list.
+ *
+ * </p> Every location and category in the table is validated once, however many transactions
+ * share it, and date and times are not parsed, so loading does far less work than loading
+ * the same data as json. The file is decoded straight from a memory mapping of it, which is
+ * released once the stream over it is garbage collected.
+ * {@link #convertFromJson(Path, Path)} and {@link #convertToJson(Path, Path)} move data
+ * between this format and that of {@link JsonUniCashStorage}.
+ */
+public class BinaryUniCashStorage implements UniCashStorage {
+
+    public static final String BINARY_FILE_SUFFIX = ".bin";
+    public static final int MAGIC_NUMBER = 0x55434153;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a UniCash binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_INVALID_REFERENCE = "Invalid %s reference in binary data file: %d";
+    public static final String MESSAGE_INVALID_COUNT = "Invalid count in binary data file: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUniCashStorage.class);
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    // Counts are only trusted once that many items have been read, in case the file is corrupted
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private final Path filePath;
+
+    public BinaryUniCashStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + BINARY_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(FileUtil.newMappedInputStream(filePath))) {
+            return Optional.of(readUniCash(in));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static UniCash readUniCash(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        StringTable strings = new StringTable(in);
+        Type[] types = new Type[TransactionType.values().length];
+        for (TransactionType transactionType : TransactionType.values()) {
+            types[transactionType.ordinal()] = new Type(transactionType.getOriginalString());
+        }
+
+        int transactionCount = readCount(in);
+        List<Transaction> transactions = new ArrayList<>(Math.min(transactionCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(readTransaction(in, strings, types));
+        }
+
+        Budget budget = in.readBoolean() ? readBudget(in) : null;
+        return JsonUniCashStorage.toUniCash(transactions, budget);
+    }
+
+    private static Transaction readTransaction(DataInputStream in, StringTable strings, Type[] types)
+            throws IOException, IllegalValueException {
+        long id = in.readLong();
+        if (!TransactionId.isValidId(id)) {
+            throw new IllegalValueException(TransactionId.MESSAGE_CONSTRAINTS);
+        }
+
+        String name = in.readUTF();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        int typeOrdinal = in.readUnsignedByte();
+        if (typeOrdinal >= types.length) {
+            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+        }
+
+        Amount amount = readAmount(in);
+        DateTime dateTime = readDateTime(in);
+        Location location = strings.getLocation(in.readInt());
+
+        int categoryCount = in.readUnsignedByte();
+        List<Category> categories = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            categories.add(strings.getCategory(in.readInt()));
+        }
+        if (UniqueCategoryList.isMoreThanMax(categories)) {
+            throw new IllegalValueException(UniqueCategoryList.MESSAGE_SIZE_CONSTRAINTS);
+        }
+        if (!UniqueCategoryList.categoriesAreUnique(categories)) {
+            throw new IllegalValueException(UniqueCategoryList.MESSAGE_DUPLICATION_CONSTRAINTS);
+        }
+
+        return new Transaction(new TransactionId(id), Name.ofValidated(name), types[typeOrdinal], amount, dateTime,
+                location, new UniqueCategoryList(categories));
+    }
+
+    private static DateTime readDateTime(DataInputStream in) throws IOException, IllegalValueException {
+        long epochMinute = in.readLong();
+        try {
+            return DateTime.of(LocalDateTime.ofEpochSecond(
+                    Math.multiplyExact(epochMinute, SECONDS_PER_MINUTE), 0, ZoneOffset.UTC));
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static Budget readBudget(DataInputStream in) throws IOException, IllegalValueException {
+        Amount amount = readAmount(in);
+        int intervalOrdinal = in.readUnsignedByte();
+        if (intervalOrdinal >= BudgetInterval.values().length) {
+            throw new IllegalValueException(Interval.MESSAGE_CONSTRAINTS);
+        }
+        return new Budget(amount, new Interval(BudgetInterval.values()[intervalOrdinal].getOriginalString()));
+    }
+
+    private static Amount readAmount(DataInputStream in) throws IOException, IllegalValueException {
+        try {
+            return Amount.ofCents(in.readLong());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, count));
+        }
+        return count;
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}. The data is written to a temporary
+     * file which is then moved into place.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        // Every location and category name is written once, in order of first use
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        for (Transaction transaction : uniCash.getTransactionList()) {
+            stringIndexes.putIfAbsent(transaction.getLocation().location, stringIndexes.size());
+            for (Category category : transaction.getCategories()) {
+                stringIndexes.putIfAbsent(category.category, stringIndexes.size());
+            }
+        }
+
+        Path temporaryPath = FileUtil.getTemporaryPath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(stringIndexes.size());
+            for (String string : stringIndexes.keySet()) {
+                out.writeUTF(string);
+            }
+
+            List<Transaction> transactions = uniCash.getTransactionList();
+            out.writeInt(transactions.size());
+            for (Transaction transaction : transactions) {
+                writeTransaction(out, transaction, stringIndexes);
+            }
+
+            Budget budget = uniCash.getBudget();
+            out.writeBoolean(budget != null);
+            if (budget != null) {
+                out.writeLong(budget.getAmount().cents);
+                out.writeByte(budget.getInterval().interval.ordinal());
+            }
+        }
+        FileUtil.replaceWith(filePath, temporaryPath);
+    }
+
+    private static void writeTransaction(DataOutputStream out, Transaction transaction,
+            Map<String, Integer> stringIndexes) throws IOException {
+        out.writeLong(transaction.getId().id);
+        out.writeUTF(transaction.getName().fullName);
+        out.writeByte(transaction.getType().type.ordinal());
+        out.writeLong(transaction.getAmount().cents);
+        out.writeLong(transaction.getDateTime().getDateTime().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE);
+        out.writeInt(stringIndexes.get(transaction.getLocation().location));
+
+        out.writeByte(transaction.getCategories().getSize());
+        for (Category category : transaction.getCategories()) {
+            out.writeInt(stringIndexes.get(category.category));
+        }
+    }
+
+    /**
+     * Returns a {@code UniCashStorage} for the binary file kept in place of the json file at {@code jsonFilePath},
+     * converting the json file first if it exists and the binary file does not.
+     *
+     * </p> If the json file cannot be converted, a {@code JsonUniCashStorage} for the json file is returned
+     * instead, so that its data is still read from there rather than replaced as if there were no data file.
+     */
+    public static UniCashStorage convertedFromJson(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        Path binaryFilePath = getBinaryFilePath(jsonFilePath);
+        if (Files.exists(binaryFilePath) || !Files.exists(jsonFilePath)) {
+            return new BinaryUniCashStorage(binaryFilePath);
+        }
+
+        logger.info("Converting data file " + jsonFilePath + " to " + binaryFilePath);
+        try {
+            convertFromJson(jsonFilePath, binaryFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file " + jsonFilePath + " could not be converted, so it will be used as it is: "
+                    + e.getMessage());
+            return new JsonUniCashStorage(jsonFilePath);
+        }
+        return new BinaryUniCashStorage(binaryFilePath);
+    }
+
+    /**
+     * Writes the UniCash data in the json file at {@code jsonFilePath} to a binary file at {@code binaryFilePath}.
+     *
+     * @throws DataLoadingException if the json file could not be read.
+     * @throws IOException if the binary file could not be written.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        requireNonNull(binaryFilePath);
+        Optional<ReadOnlyUniCash> uniCash = new JsonUniCashStorage(jsonFilePath).readUniCash();
+        if (uniCash.isPresent()) {
+            new BinaryUniCashStorage(binaryFilePath).saveUniCash(uniCash.get());
+        }
+    }
+
+    /**
+     * Writes the UniCash data in the binary file at {@code binaryFilePath} to a json file at {@code jsonFilePath}.
+     *
+     * @throws DataLoadingException if the binary file could not be read.
+     * @throws IOException if the json file could not be written.
+     */
+    public static void convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyUniCash> uniCash = new BinaryUniCashStorage(binaryFilePath).readUniCash();
+        if (uniCash.isPresent()) {
+            new JsonUniCashStorage(jsonFilePath).saveUniCash(uniCash.get());
+        }
+    }
+
+    /**
+     * The table of distinct strings read from a binary file, which turns each string into
+     * a {@code Location} or {@code Category} the first time it is referred to as one.
+     */
+    private static class StringTable {
+        private final String[] strings;
+        private final Location[] locations;
+        private final Category[] categories;
+
+        StringTable(DataInputStream in) throws IOException, IllegalValueException {
+            int size = readCount(in);
+            List<String> readStrings = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < size; i++) {
+                readStrings.add(in.readUTF());
+            }
+            strings = readStrings.toArray(new String[0]);
+            locations = new Location[size];
+            categories = new Category[size];
+        }
+
+        Location getLocation(int index) throws IllegalValueException {
+            checkIndex(index, "location");
+            if (locations[index] == null) {
+                if (!Location.isValidLocation(strings[index])) {
+                    throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+                }
+                locations[index] = Location.ofValidated(strings[index]);
+            }
+            return locations[index];
+        }
+
+        Category getCategory(int index) throws IllegalValueException {
+            checkIndex(index, "category");
+            if (categories[index] == null) {
+                if (!Category.isValidCategory(strings[index])) {
+                    throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                }
+                categories[index] = Category.ofValidated(strings[index]);
+            }
+            return categories[index];
+        }
+
+        private void checkIndex(int index, String referenceName) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, referenceName, index));
+            }
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.JsonUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.UniCashSnapshot;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+
+/**
+ * A class to access UniCash data stored as a json snapshot plus an append-only journal of
+ * the changes made since, on the hard disk.
+ *
+ * </p> Saving a {@code UniCashSnapshot} which holds only the changes made since the data saved last,
+ * as taken by {@code BackgroundUniCashSaver}, appends one compact line per change to the journal,
+ * followed by a commit line, instead of rewriting every transaction. Changes which an earlier save
+ * already appended are skipped. Anything else is saved as a full snapshot. Once the journal grows
+ * past a threshold, it is compacted in the background: the journal is set aside, the snapshot is
+ * rewritten with the set-aside journal replayed over it, and the set-aside journal is deleted.
+ * Reading replays the snapshot, then any set-aside journal, then the journal, skipping a last group
+ * of changes which was never committed.
+ *
+ * </p> Snapshots use the same format as {@link JsonUniCashStorage}, and every journal entry can
+ * safely be replayed over a snapshot that already includes it, so an interrupted compaction
+ * loses no data. The first save of every session, and the first save after a failed one, writes
+ * a full snapshot, which ensures that the transaction ids referred to by the journal are the ones
+ * in the snapshot and that no uncommitted changes are followed by committed ones.
+ */
+public class JournalUniCashStorage implements UniCashStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_FILE_SUFFIX = ".compacting";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_UNKNOWN_BASE =
+            "Cannot save changes to data which is not the data last saved; it will be saved in full next time";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalUniCashStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonUniCashStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "UniCash journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The change count of the UniCash whose data the snapshot and journals on disk describe, if known
+    private long persistedChangeCount = UniCashSnapshot.NO_CHANGE_COUNT;
+    private int journalLength = 0;
+
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public JournalUniCashStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalUniCashStorage} which compacts its journal once it holds
+     * {@code compactionThreshold} entries.
+     */
+    JournalUniCashStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonUniCashStorage(filePath);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getCompactingFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX + COMPACTING_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return read(filePath, List.of(getCompactingFilePath(filePath), getJournalFilePath(filePath)));
+    }
+
+    /**
+     * Returns the data in the snapshot at {@code filePath} with the journals at {@code journalPaths}
+     * replayed over it in order, or an empty Optional if none of those files exist.
+     */
+    private Optional<ReadOnlyUniCash> read(Path filePath, List<Path> journalPaths) throws DataLoadingException {
+        Optional<ReadOnlyUniCash> snapshot = snapshotStorage.readUniCash(filePath);
+        if (snapshot.isEmpty() && journalPaths.stream().noneMatch(Files::exists)) {
+            return Optional.empty();
+        }
+
+        Map<TransactionId, Transaction> transactions = new LinkedHashMap<>();
+        Budget budget = null;
+        if (snapshot.isPresent()) {
+            snapshot.get().getTransactionList().forEach(t -> transactions.put(t.getId(), t));
+            budget = snapshot.get().getBudget();
+        }
+
+        try {
+            for (Path journalPath : journalPaths) {
+                budget = replay(journalPath, transactions, budget);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        return Optional.of(JsonUniCashStorage.toUniCash(new ArrayList<>(transactions.values()), budget));
+    }
+
+    /**
+     * Applies every committed group of entries in the journal at {@code journalPath}, if it exists,
+     * to {@code transactions} and returns the resulting budget, given the {@code budget} before the journal.
+     *
+     * <p>A last group without its commit entry, possibly ending in an unreadable entry,
+     * is the sign of a save interrupted halfway, and is skipped.</p>
+     */
+    private static Budget replay(Path journalPath, Map<TransactionId, Transaction> transactions, Budget budget)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return budget;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        List<JsonAdaptedJournalEntry> group = new ArrayList<>();
+        Budget replayedBudget = budget;
+        boolean isCommitted = true;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    throw ioe;
+                }
+                isCommitted = false;
+                break;
+            }
+
+            isCommitted = entry.isCommit();
+            if (!isCommitted) {
+                group.add(entry);
+                continue;
+            }
+            for (JsonAdaptedJournalEntry committed : group) {
+                replayedBudget = committed.applyTo(transactions, replayedBudget);
+            }
+            group.clear();
+        }
+
+        if (!isCommitted) {
+            logger.warning("Skipping uncommitted last entries of journal " + journalPath);
+        }
+        return replayedBudget;
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     * Saving to any location other than this storage's own is done as a single snapshot, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveUniCash(uniCash, filePath);
+            return;
+        }
+
+        // Until this save succeeds, what is on disk is not known to match any snapshot
+        long persistedCount = persistedChangeCount;
+        persistedChangeCount = UniCashSnapshot.NO_CHANGE_COUNT;
+
+        UniCashSnapshot snapshot = uniCash instanceof UniCashSnapshot ? (UniCashSnapshot) uniCash : null;
+        if (snapshot == null || snapshot.hasTransactions()) {
+            writeSnapshotNow(uniCash);
+        } else {
+            appendToJournal(getUnsavedChanges(snapshot, persistedCount));
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        persistedChangeCount = snapshot.getChangeCount();
+        if (journalLength >= compactionThreshold && compaction.isDone()) {
+            startCompaction();
+        }
+    }
+
+    @Override
+    public boolean canSaveChanges() {
+        return true;
+    }
+
+    /**
+     * Returns the changes held by {@code snapshot} which are not on disk yet, given that the data on disk
+     * is that of its {@code UniCash} at change count {@code persistedCount}.
+     *
+     * @throws IOException if the changes do not cover every change made since the data on disk.
+     */
+    private static List<UniCash.Change> getUnsavedChanges(UniCashSnapshot snapshot, long persistedCount)
+            throws IOException {
+        long baseCount = snapshot.getBaseChangeCount();
+        if (persistedCount == UniCashSnapshot.NO_CHANGE_COUNT || baseCount > persistedCount
+                || persistedCount > snapshot.getChangeCount()) {
+            throw new IOException(MESSAGE_UNKNOWN_BASE);
+        }
+
+        // Changes up to the persisted count were written by an earlier save
+        List<UniCash.Change> changes = snapshot.getChanges().orElseThrow();
+        return changes.subList((int) (persistedCount - baseCount), changes.size());
+    }
+
+    /**
+     * Appends {@code changes}, if there are any, to the journal as one group, ended by a commit entry.
+     */
+    private void appendToJournal(List<UniCash.Change> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (UniCash.Change change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.of(change))).append('\n');
+        }
+        lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.commit())).append('\n');
+
+        Files.write(getJournalFilePath(filePath), lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalLength += changes.size();
+    }
+
+    /**
+     * Sets the journal aside and folds it into the snapshot in the background.
+     * Saves made in the meantime go to a fresh journal.
+     *
+     * <p>A journal set aside before, by a compaction which failed or was interrupted, is folded into
+     * the snapshot first. Compaction is put off until a later save if that fails.</p>
+     */
+    private void startCompaction() {
+        Path compactingPath = getCompactingFilePath(filePath);
+        try {
+            if (Files.exists(compactingPath)) {
+                compact(compactingPath);
+            }
+            Files.move(getJournalFilePath(filePath), compactingPath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to start compacting journal of " + filePath + ": " + ioe);
+            return;
+        }
+        journalLength = 0;
+
+        compaction = compactor.submit(() -> {
+            try {
+                compact(compactingPath);
+                logger.fine("Compacted journal of " + filePath);
+            } catch (IOException ioe) {
+                // The set-aside journal is kept, and folded in by the next compaction or full save
+                logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Replaces the snapshot with the data in it and the journal at {@code compactingPath}, then deletes that journal.
+     */
+    private void compact(Path compactingPath) throws IOException {
+        ReadOnlyUniCash compacted;
+        try {
+            compacted = read(filePath, List.of(compactingPath)).orElseThrow();
+        } catch (DataLoadingException e) {
+            throw new IOException(e);
+        }
+        writeSnapshot(compacted);
+        Files.delete(compactingPath);
+    }
+
+    /**
+     * Writes {@code uniCash} as the snapshot and discards the journal.
+     */
+    private void writeSnapshotNow(ReadOnlyUniCash uniCash) throws IOException {
+        awaitCompaction();
+        writeSnapshot(uniCash);
+        Files.deleteIfExists(getCompactingFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalLength = 0;
+    }
+
+    /**
+     * Replaces the snapshot with {@code uniCash}. The snapshot storage writes atomically,
+     * so the snapshot is never left half written.
+     */
+    private void writeSnapshot(ReadOnlyUniCash uniCash) throws IOException {
+        snapshotStorage.saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Failures are logged by the compaction itself
+            logger.warning("Journal compaction of " + filePath + " ended unexpectedly: " + e.getCause());
+        }
+    }
+
+}
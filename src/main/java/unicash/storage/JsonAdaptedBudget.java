@@ -38,7 +38,7 @@ public class JsonAdaptedBudget {
      */
     public JsonAdaptedBudget(Budget budget) {
         requireNonNull(budget);
-        amount = budget.getAmount().amount;
+        amount = budget.getAmount().toDouble();
         interval = budget.getInterval().interval.getOriginalString();
     }
 
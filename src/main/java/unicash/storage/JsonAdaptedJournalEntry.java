@@ -0,0 +1,176 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
+
+/**
+ * Jackson-friendly record of a single change to UniCash, as appended to a journal.
+ *
+ * </p> Every change refers to transactions by their {@code TransactionId}, and applying
+ * a change more than once has the same effect as applying it once. This lets a journal
+ * be replayed over a snapshot that may already include some of its changes.
+ *
+ * </p> The changes saved together are followed by a commit entry, and only take effect as a group
+ * once their commit entry is read, so a save interrupted halfway leaves no trace.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing its %s!";
+
+    /**
+     * The kinds of change that can be recorded in a journal.
+     */
+    enum Operation {
+        /** Appends a transaction, unless one with its id is already present. */
+        ADD,
+        /** Replaces the transaction with the same id in place, if it is present. */
+        SET,
+        /** Removes the transaction with the given id, if it is present. */
+        REMOVE,
+        /** Replaces the budget, clearing it if there is no budget. */
+        BUDGET,
+        /** Ends the group of changes saved together. */
+        COMMIT
+    }
+
+    private final Operation operation;
+    private final Long id;
+    private final JsonAdaptedTransaction transaction;
+    private final JsonAdaptedBudget budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("operation") Operation operation,
+            @JsonProperty("id") Long id,
+            @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+            @JsonProperty("budget") JsonAdaptedBudget budget
+    ) {
+        this.operation = operation;
+        this.id = id;
+        this.transaction = transaction;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns an entry which appends {@code transaction}.
+     */
+    public static JsonAdaptedJournalEntry add(Transaction transaction) {
+        requireNonNull(transaction);
+        return new JsonAdaptedJournalEntry(Operation.ADD, null, new JsonAdaptedTransaction(transaction), null);
+    }
+
+    /**
+     * Returns an entry which replaces the transaction sharing the id of {@code transaction}.
+     */
+    public static JsonAdaptedJournalEntry set(Transaction transaction) {
+        requireNonNull(transaction);
+        return new JsonAdaptedJournalEntry(Operation.SET, null, new JsonAdaptedTransaction(transaction), null);
+    }
+
+    /**
+     * Returns an entry which removes the transaction with the given {@code id}.
+     */
+    public static JsonAdaptedJournalEntry remove(TransactionId id) {
+        requireNonNull(id);
+        return new JsonAdaptedJournalEntry(Operation.REMOVE, id.id, null, null);
+    }
+
+    /**
+     * Returns an entry which replaces the budget with {@code budget}, or clears it if {@code budget} is null.
+     */
+    public static JsonAdaptedJournalEntry budget(Budget budget) {
+        return new JsonAdaptedJournalEntry(Operation.BUDGET, null, null,
+                budget == null ? null : new JsonAdaptedBudget(budget));
+    }
+
+    /**
+     * Returns an entry which ends the group of changes saved together.
+     */
+    public static JsonAdaptedJournalEntry commit() {
+        return new JsonAdaptedJournalEntry(Operation.COMMIT, null, null, null);
+    }
+
+    /**
+     * Returns an entry which records {@code change}.
+     */
+    public static JsonAdaptedJournalEntry of(UniCash.Change change) {
+        requireNonNull(change);
+        switch (change.kind) {
+        case ADD:
+            return add(change.transaction);
+        case SET:
+            return set(change.transaction);
+        case REMOVE:
+            return remove(change.transaction.getId());
+        case BUDGET:
+            return budget(change.budget);
+        default:
+            throw new IllegalArgumentException("Unknown kind of change: " + change.kind);
+        }
+    }
+
+    /**
+     * Returns true if this entry ends a group of changes.
+     */
+    public boolean isCommit() {
+        return operation == Operation.COMMIT;
+    }
+
+    /**
+     * Applies this change to {@code transactions}, which maps the id of every transaction to it
+     * in order, and returns the budget after the change, given the {@code currentBudget}.
+     *
+     * @throws IllegalValueException if this entry is incomplete or violates any data constraints.
+     */
+    public Budget applyTo(Map<TransactionId, Transaction> transactions, Budget currentBudget)
+            throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "operation"));
+        }
+
+        switch (operation) {
+        case ADD:
+            Transaction added = toModelTransaction();
+            transactions.putIfAbsent(added.getId(), added);
+            return currentBudget;
+        case SET:
+            Transaction edited = toModelTransaction();
+            transactions.computeIfPresent(edited.getId(), (unused, target) -> edited);
+            return currentBudget;
+        case REMOVE:
+            if (id == null || !TransactionId.isValidId(id)) {
+                throw new IllegalValueException(TransactionId.MESSAGE_CONSTRAINTS);
+            }
+            transactions.remove(new TransactionId(id));
+            return currentBudget;
+        case BUDGET:
+            return budget == null ? null : budget.toModelType();
+        case COMMIT:
+            return currentBudget;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "operation"));
+        }
+    }
+
+    private Transaction toModelTransaction() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "transaction"));
+        }
+        return transaction.toModelType();
+    }
+}
@@ -0,0 +1,176 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.budget.Budget;
+
+/**
+ * {@code PartitionManifest} adapted to be exported to JSON.
+ */
+class JsonAdaptedPartitionManifest {
+
+    public static final String MESSAGE_MISSING_MONTH = "Partition manifest's month field is missing!";
+    public static final String MESSAGE_INVALID_MONTH = "Partition manifest has an invalid month: %s";
+    public static final String MESSAGE_INVALID_PARTITION = "Partition manifest has an invalid partition of %s";
+    public static final String MESSAGE_DUPLICATE_PARTITION = "Partition manifest has more than one partition of %s";
+    public static final String MESSAGE_ORDER_MISMATCH =
+            "Partition manifest orders a different number of transactions than the partition of %s holds";
+
+    private final List<JsonAdaptedPartition> partitions = new ArrayList<>();
+    private final List<JsonAdaptedRun> order = new ArrayList<>();
+    private final JsonAdaptedBudget budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedPartitionManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedPartitionManifest(
+            @JsonProperty("partitions") List<JsonAdaptedPartition> partitions,
+            @JsonProperty("order") List<JsonAdaptedRun> order,
+            @JsonProperty("budget") JsonAdaptedBudget budget
+    ) {
+        if (partitions != null) {
+            this.partitions.addAll(partitions);
+        }
+        if (order != null) {
+            this.order.addAll(order);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * Converts a given {@code PartitionManifest} into this class for Jackson use.
+     */
+    public JsonAdaptedPartitionManifest(PartitionManifest source) {
+        requireNonNull(source);
+        source.partitions.forEach(partition -> partitions.add(new JsonAdaptedPartition(partition)));
+        source.order.forEach(run -> order.add(new JsonAdaptedRun(run)));
+        budget = source.budget == null ? null : new JsonAdaptedBudget(source.budget);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted manifest into a {@code PartitionManifest}.
+     *
+     * @throws IllegalValueException if the manifest is invalid, or orders a different number of
+     *     transactions from some month than its partition holds.
+     */
+    public PartitionManifest toModelType() throws IllegalValueException {
+        List<PartitionManifest.Partition> modelPartitions = new ArrayList<>(partitions.size());
+        Map<YearMonth, Integer> unorderedCounts = new HashMap<>();
+        for (JsonAdaptedPartition partition : partitions) {
+            PartitionManifest.Partition modelPartition = partition.toModelType();
+            if (unorderedCounts.put(modelPartition.month, modelPartition.size) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PARTITION, modelPartition.month));
+            }
+            modelPartitions.add(modelPartition);
+        }
+
+        List<PartitionManifest.Run> modelOrder = new ArrayList<>(order.size());
+        for (JsonAdaptedRun run : order) {
+            PartitionManifest.Run modelRun = run.toModelType();
+            Integer unorderedCount = unorderedCounts.get(modelRun.month);
+            if (unorderedCount == null || unorderedCount < modelRun.count) {
+                throw new IllegalValueException(String.format(MESSAGE_ORDER_MISMATCH, modelRun.month));
+            }
+            unorderedCounts.put(modelRun.month, unorderedCount - modelRun.count);
+            modelOrder.add(modelRun);
+        }
+        for (Map.Entry<YearMonth, Integer> unorderedCount : unorderedCounts.entrySet()) {
+            if (unorderedCount.getValue() != 0) {
+                throw new IllegalValueException(String.format(MESSAGE_ORDER_MISMATCH, unorderedCount.getKey()));
+            }
+        }
+
+        Budget modelBudget = budget == null ? null : budget.toModelType();
+        return new PartitionManifest(modelPartitions, modelOrder, modelBudget);
+    }
+
+    private static YearMonth toModelMonth(String month) throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_MONTH);
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+        }
+    }
+
+    /**
+     * {@code PartitionManifest.Partition} adapted to be exported to JSON.
+     */
+    static class JsonAdaptedPartition {
+        private final String month;
+        private final int revision;
+        private final int size;
+
+        /**
+         * Constructs a {@code JsonAdaptedPartition} with the given details.
+         */
+        @JsonCreator
+        public JsonAdaptedPartition(
+                @JsonProperty("month") String month,
+                @JsonProperty("revision") int revision,
+                @JsonProperty("size") int size
+        ) {
+            this.month = month;
+            this.revision = revision;
+            this.size = size;
+        }
+
+        JsonAdaptedPartition(PartitionManifest.Partition source) {
+            this(source.month.toString(), source.revision, source.size);
+        }
+
+        PartitionManifest.Partition toModelType() throws IllegalValueException {
+            YearMonth modelMonth = toModelMonth(month);
+            if (revision < 0 || size <= 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PARTITION, modelMonth));
+            }
+            return new PartitionManifest.Partition(modelMonth, revision, size);
+        }
+    }
+
+    /**
+     * {@code PartitionManifest.Run} adapted to be exported to JSON.
+     */
+    static class JsonAdaptedRun {
+        private final String month;
+        private final int count;
+
+        /**
+         * Constructs a {@code JsonAdaptedRun} with the given details.
+         */
+        @JsonCreator
+        public JsonAdaptedRun(
+                @JsonProperty("month") String month,
+                @JsonProperty("count") int count
+        ) {
+            this.month = month;
+            this.count = count;
+        }
+
+        JsonAdaptedRun(PartitionManifest.Run source) {
+            this(source.month.toString(), source.count);
+        }
+
+        PartitionManifest.Run toModelType() throws IllegalValueException {
+            YearMonth modelMonth = toModelMonth(month);
+            if (count <= 0) {
+                throw new IllegalValueException(String.format(MESSAGE_ORDER_MISMATCH, modelMonth));
+            }
+            return new PartitionManifest.Run(modelMonth, count);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package unicash.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -15,6 +20,7 @@ import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Location;
 import unicash.model.transaction.Name;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
 import unicash.model.transaction.Type;
 
 /**
@@ -24,6 +30,7 @@ public class JsonAdaptedTransaction {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Transaction's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final double amount;
     private final String dateTime;
@@ -33,9 +40,12 @@ public class JsonAdaptedTransaction {
 
     /**
      * Constructs a {@code JsonAdaptedTransaction} with the given transaction details.
+     *
+     * <p>{@code id} may be null for data saved before transactions were given ids.</p>
      */
     @JsonCreator
     public JsonAdaptedTransaction(
+            @JsonProperty("id") Long id,
             @JsonProperty("name") String name,
             @JsonProperty("amount") double amount,
             @JsonProperty("dateTime") String dateTime,
@@ -43,6 +53,7 @@ public class JsonAdaptedTransaction {
             @JsonProperty("type") String type,
             @JsonProperty("categories") List<JsonAdaptedCategory> categories
     ) {
+        this.id = id;
         this.name = name;
         this.amount = amount;
         this.dateTime = dateTime;
@@ -54,15 +65,30 @@ public class JsonAdaptedTransaction {
     }
 
     /**
-     * Constructs a {@code JsonAdaptedTransaction} with the given transaction details.
+     * Constructs a {@code JsonAdaptedTransaction} with the given transaction details and no id.
+     */
+    public JsonAdaptedTransaction(
+            String name,
+            double amount,
+            String dateTime,
+            String location,
+            String type,
+            List<JsonAdaptedCategory> categories
+    ) {
+        this(null, name, amount, dateTime, location, type, categories);
+    }
+
+    /**
+     * Converts a given {@code Transaction} into this class for Jackson use.
      */
     public JsonAdaptedTransaction(Transaction source) {
+        id = source.getId().id;
         name = source.getName().fullName;
-        amount = source.getAmount().amount;
+        amount = source.getAmount().toDouble();
         dateTime = source.getDateTime().inputString();
         location = source.getLocation().location;
         type = source.getType().type.getOriginalString();
-        categories.addAll(source.getCategories().asUnmodifiableObservableList()
+        categories.addAll(source.getCategories().asList()
                 .stream()
                 .map(JsonAdaptedCategory::new)
                 .collect(Collectors.toList()));
@@ -74,13 +100,43 @@ public class JsonAdaptedTransaction {
      * @throws IllegalValueException if there were any data constraints violated in the adapted format.
      */
     public Transaction toModelType() throws IllegalValueException {
+        return toModelTypeWithId(toModelId());
+    }
+
+    /**
+     * Converts {@code adaptedTransactions} into the model's {@code Transaction} objects, in the same order.
+     *
+     * </p> Large lists are converted in parallel on the common fork-join pool. The result is the same
+     * as converting each adapted transaction in turn with {@link #toModelType()}: ids are still handed
+     * out in order, and if any adapted transaction is invalid, the exception thrown is the one for the
+     * first invalid adapted transaction in the list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted format.
+     */
+    public static List<Transaction> toModelTypes(List<JsonAdaptedTransaction> adaptedTransactions)
+            throws IllegalValueException {
+        requireNonNull(adaptedTransactions);
+        return new Conversion(adaptedTransactions).run();
+    }
+
+    private TransactionId toModelId() throws IllegalValueException {
+        if (id != null && !TransactionId.isValidId(id)) {
+            throw new IllegalValueException(TransactionId.MESSAGE_CONSTRAINTS);
+        }
+        return id == null ? TransactionId.generate() : new TransactionId(id);
+    }
+
+    /**
+     * Converts every field other than the id, each of which is validated exactly once.
+     */
+    private Transaction toModelTypeWithId(TransactionId modelId) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(formatMissingFieldMessage(Name.class));
         }
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValidated(name);
 
         if (!Amount.isValidAmount(amount)) {
             throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
@@ -90,15 +146,13 @@ public class JsonAdaptedTransaction {
         if (dateTime == null) {
             throw new IllegalValueException(formatMissingFieldMessage(DateTime.class));
         }
-        if (!DateTime.isValidDateTime(dateTime)) {
-            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
-        }
-        final DateTime modelDateTime = new DateTime(dateTime);
+        final DateTime modelDateTime = DateTime.parse(dateTime)
+                .orElseThrow(() -> new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS));
 
         if (location != null && !Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelLocation = new Location(location);
+        final Location modelLocation = Location.ofValidated(location);
 
         if (type == null) {
             throw new IllegalValueException(formatMissingFieldMessage(Type.class));
@@ -113,7 +167,8 @@ public class JsonAdaptedTransaction {
             transactionCategories.add(category.toModelType());
         }
         final UniqueCategoryList modelCategories = new UniqueCategoryList(transactionCategories);
-        return new Transaction(modelName, modelType, modelAmount, modelDateTime, modelLocation, modelCategories);
+        return new Transaction(modelId, modelName, modelType, modelAmount, modelDateTime, modelLocation,
+                modelCategories);
     }
 
     /**
@@ -122,4 +177,127 @@ public class JsonAdaptedTransaction {
     private <T> String formatMissingFieldMessage(Class<T> fieldName) {
         return String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName.getSimpleName());
     }
+
+    /**
+     * A conversion of a list of adapted transactions, split into ranges which are converted in parallel.
+     *
+     * </p> A conversion can be started and then joined later, so that the caller can go on with other
+     * work, such as reading the next adapted transactions, while the list is converted. Conversions
+     * started one after another hand out ids in the order they were started.
+     */
+    static class Conversion {
+        private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+        private final List<JsonAdaptedTransaction> adaptedTransactions;
+        private final TransactionId[] ids;
+        private final Transaction[] transactions;
+        private RangeConversion task;
+
+        // The index of the first adapted transaction known to be invalid, and the exception it caused
+        private volatile int failureIndex;
+        private Exception failure;
+
+        Conversion(List<JsonAdaptedTransaction> adaptedTransactions) {
+            this.adaptedTransactions = adaptedTransactions;
+            this.ids = new TransactionId[adaptedTransactions.size()];
+            this.transactions = new Transaction[adaptedTransactions.size()];
+            this.failureIndex = adaptedTransactions.size();
+        }
+
+        List<Transaction> run() throws IllegalValueException {
+            task = new RangeConversion(0, handOutIds());
+            ForkJoinPool.commonPool().invoke(task);
+            return getTransactions();
+        }
+
+        /**
+         * Hands out the ids of the adapted transactions, and then starts converting them on the common
+         * fork-join pool while the caller carries on.
+         */
+        void start() {
+            task = new RangeConversion(0, handOutIds());
+            ForkJoinPool.commonPool().execute(task);
+        }
+
+        /**
+         * Waits for a conversion begun by {@link #start()} to finish, and returns the converted transactions.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted format.
+         */
+        List<Transaction> join() throws IllegalValueException {
+            task.join();
+            return getTransactions();
+        }
+
+        /**
+         * Hands out ids one at a time in order, so that they do not depend on how ranges are scheduled,
+         * and returns the number of ids handed out before the first invalid one.
+         */
+        private int handOutIds() {
+            int idCount = 0;
+            try {
+                for (; idCount < ids.length; idCount++) {
+                    ids[idCount] = adaptedTransactions.get(idCount).toModelId();
+                }
+            } catch (IllegalValueException ive) {
+                recordFailure(idCount, ive);
+            }
+            return idCount;
+        }
+
+        private List<Transaction> getTransactions() throws IllegalValueException {
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return Arrays.asList(transactions);
+        }
+
+        /**
+         * Converts the adapted transactions from {@code fromIndex} until the first invalid one or {@code toIndex}.
+         */
+        private void convert(int fromIndex, int toIndex) {
+            for (int i = fromIndex; i < toIndex && i < failureIndex; i++) {
+                try {
+                    transactions[i] = adaptedTransactions.get(i).toModelTypeWithId(ids[i]);
+                } catch (IllegalValueException | RuntimeException e) {
+                    recordFailure(i, e);
+                    return;
+                }
+            }
+        }
+
+        private synchronized void recordFailure(int index, Exception exception) {
+            if (index < failureIndex) {
+                failureIndex = index;
+                failure = exception;
+            }
+        }
+
+        /**
+         * Converts a range of the adapted transactions, splitting it further if it is large.
+         */
+        private class RangeConversion extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int fromIndex;
+            private final int toIndex;
+
+            RangeConversion(int fromIndex, int toIndex) {
+                this.fromIndex = fromIndex;
+                this.toIndex = toIndex;
+            }
+
+            @Override
+            protected void compute() {
+                if (toIndex - fromIndex <= SEQUENTIAL_THRESHOLD) {
+                    convert(fromIndex, toIndex);
+                    return;
+                }
+                int middleIndex = (fromIndex + toIndex) >>> 1;
+                invokeAll(new RangeConversion(fromIndex, middleIndex), new RangeConversion(middleIndex, toIndex));
+            }
+        }
+    }
 }
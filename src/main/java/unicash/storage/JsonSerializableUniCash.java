@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
-import unicash.model.transaction.Transaction;
 
 /**
  * An Immutable UniCash that is serializable to JSON format.
@@ -59,15 +58,8 @@ class JsonSerializableUniCash {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public UniCash toModelType() throws IllegalValueException {
-        UniCash uniCash = new UniCash();
-        for (var jsonAdaptedTransaction : transactions) {
-            Transaction transaction = jsonAdaptedTransaction.toModelType();
-            uniCash.addTransaction(transaction);
-        }
-        if (budget != null) {
-            uniCash.setBudget(budget.toModelType());
-        }
-        return uniCash;
+        return JsonUniCashStorage.toUniCash(JsonAdaptedTransaction.toModelTypes(transactions),
+                budget == null ? null : budget.toModelType());
     }
 
 }
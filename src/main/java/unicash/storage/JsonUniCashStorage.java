@@ -2,25 +2,56 @@ package unicash.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import unicash.commons.core.LogsCenter;
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.commons.util.FileUtil;
 import unicash.commons.util.JsonUtil;
+import unicash.model.DeferredTransactions;
+import unicash.model.PartialUniCash;
 import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 
 /**
  * A class to access UniCash data stored as a json file on the hard disk.
+ *
+ * </p> The file is read and written as a stream, so that the whole document is never held in
+ * memory as a tree. The transactions read are converted into the model in parallel, a chunk at
+ * a time while the rest of the file is still being read, so that only the chunks still being
+ * converted are held in memory as {@code JsonAdaptedTransaction} objects. The layout of the
+ * file is that of {@code JsonSerializableUniCash}.
+ *
+ * </p> Saving writes to a temporary file next to the data file and then moves it into place,
+ * so a failed or interrupted save leaves the previous data intact.
  */
 public class JsonUniCashStorage implements UniCashStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUniCashStorage.class);
 
+    private static final String TRANSACTIONS_FIELD = "transactions";
+    private static final String BUDGET_FIELD = "budget";
+
     private final Path filePath;
 
     public JsonUniCashStorage(Path filePath) {
@@ -45,19 +76,129 @@ public class JsonUniCashStorage implements UniCashStorage {
     public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        var jsonUniCash = JsonUtil.readJsonFile(filePath, JsonSerializableUniCash.class);
-        if (jsonUniCash.isEmpty()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        ChunkedConversion conversion = new ChunkedConversion();
+        Budget budget = readFile(filePath, conversion);
         try {
-            return Optional.of(jsonUniCash.get().toModelType());
+            return Optional.of(toUniCash(conversion.finish(), budget));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * </p> Every transaction is read, but only the {@code recentCount} transactions at the end
+     * of the file are converted into {@code Transaction} objects. The older ones are converted
+     * when they are loaded.
+     */
+    @Override
+    public Optional<PartialUniCash> readPartialUniCash(int recentCount) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        Budget budget = readFile(filePath, adaptedTransactions::add);
+
+        int deferredCount = Math.max(0, adaptedTransactions.size() - Math.max(0, recentCount));
+        DeferredAdaptedTransactions deferredTransactions =
+                new DeferredAdaptedTransactions(adaptedTransactions.subList(0, deferredCount));
+        List<Transaction> recentTransactions;
+        try {
+            recentTransactions = JsonAdaptedTransaction.toModelTypes(
+                    adaptedTransactions.subList(deferredCount, adaptedTransactions.size()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(new PartialUniCash(toUniCash(recentTransactions, budget), deferredTransactions));
+    }
+
+    /**
+     * Returns the transactions in the existing data file at {@code filePath}, in order, without
+     * converting them. The budget in the file is ignored.
+     */
+    static List<JsonAdaptedTransaction> readAdaptedTransactions(Path filePath) throws DataLoadingException {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        readFile(filePath, adaptedTransactions::add);
+        return adaptedTransactions;
+    }
+
+    /**
+     * Reads the existing UniCash data file at {@code filePath}, passing each transaction to
+     * {@code transactionHandler} as it is read, and returns the budget, which may be null.
+     */
+    private static Budget readFile(Path filePath, AdaptedTransactionHandler transactionHandler)
+            throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return readContents(parser, transactionHandler);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Reads a UniCash object from {@code parser}, passing each transaction to {@code transactionHandler}
+     * as soon as it is read, and returns the budget, which may be null.
+     * Fields other than the transactions and budget are skipped.
+     */
+    private static Budget readContents(JsonParser parser, AdaptedTransactionHandler transactionHandler)
+            throws IOException, IllegalValueException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        Budget budget = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (fieldName.equals(TRANSACTIONS_FIELD) && valueToken == JsonToken.START_ARRAY) {
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    expectToken(parser, token, JsonToken.START_OBJECT);
+                    transactionHandler.accept(parser.readValueAs(JsonAdaptedTransaction.class));
+                }
+            } else if (fieldName.equals(BUDGET_FIELD) && valueToken == JsonToken.START_OBJECT) {
+                budget = parser.readValueAs(JsonAdaptedBudget.class).toModelType();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return budget;
+    }
+
+    /**
+     * Returns a UniCash holding {@code transactions} and {@code budget}, which may be null.
+     * Data read from a file is only limited to {@link TransactionList#MAX_TRANSACTIONS_LIMIT} transactions,
+     * as the maximum number in the config is applied by the model the data is loaded into.
+     */
+    static UniCash toUniCash(List<Transaction> transactions, Budget budget) {
+        UniCash uniCash = new UniCash(TransactionList.MAX_TRANSACTIONS_LIMIT);
+        uniCash.setTransactions(transactions);
+        if (budget != null) {
+            uniCash.setBudget(budget);
+        }
+        return uniCash;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     @Override
     public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
         saveUniCash(uniCash, filePath);
@@ -72,8 +213,112 @@ public class JsonUniCashStorage implements UniCashStorage {
         requireNonNull(uniCash);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableUniCash(uniCash), filePath);
+        writeFile(filePath, uniCash.getTransactionList(), uniCash.getBudget());
+    }
+
+    /**
+     * Writes {@code transactions} and {@code budget}, which may be null, as a data file at {@code filePath}.
+     * The file is written to a temporary file which is then moved into place.
+     */
+    static void writeFile(Path filePath, List<Transaction> transactions, Budget budget) throws IOException {
+        Path temporaryPath = FileUtil.getTemporaryPath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(
+                new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(TRANSACTIONS_FIELD);
+            for (Transaction transaction : transactions) {
+                generator.writeObject(new JsonAdaptedTransaction(transaction));
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName(BUDGET_FIELD);
+            generator.writeObject(budget == null ? null : new JsonAdaptedBudget(budget));
+
+            generator.writeEndObject();
+        }
+        FileUtil.replaceWith(filePath, temporaryPath);
+    }
+
+    /**
+     * Handles each transaction as it is read from a data file.
+     */
+    @FunctionalInterface
+    private interface AdaptedTransactionHandler {
+        void accept(JsonAdaptedTransaction adaptedTransaction) throws IllegalValueException;
+    }
+
+    /**
+     * Converts adapted transactions as they are read, a chunk at a time, while the next ones are read.
+     * Chunks are waited for in order, once enough of them are being converted to keep the common
+     * fork-join pool busy, and their adapted transactions are then let go.
+     */
+    private static class ChunkedConversion implements AdaptedTransactionHandler {
+        private static final int CHUNK_SIZE = 4096;
+        private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final Deque<JsonAdaptedTransaction.Conversion> pendingConversions = new ArrayDeque<>();
+        private List<JsonAdaptedTransaction> chunk = new ArrayList<>();
+
+        @Override
+        public void accept(JsonAdaptedTransaction adaptedTransaction) throws IllegalValueException {
+            chunk.add(adaptedTransaction);
+            if (chunk.size() < CHUNK_SIZE) {
+                return;
+            }
+            startChunk();
+            if (pendingConversions.size() > MAX_PENDING_CHUNKS) {
+                transactions.addAll(pendingConversions.removeFirst().join());
+            }
+        }
+
+        /**
+         * Returns every transaction read, once all of them have been converted.
+         *
+         * @throws IllegalValueException if any adapted transaction is invalid, for the first of them.
+         */
+        List<Transaction> finish() throws IllegalValueException {
+            if (!chunk.isEmpty()) {
+                startChunk();
+            }
+            while (!pendingConversions.isEmpty()) {
+                transactions.addAll(pendingConversions.removeFirst().join());
+            }
+            return transactions;
+        }
+
+        private void startChunk() {
+            JsonAdaptedTransaction.Conversion conversion = new JsonAdaptedTransaction.Conversion(chunk);
+            conversion.start();
+            pendingConversions.addLast(conversion);
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        }
     }
 
+    /**
+     * Transactions which have been read from a data file but not yet converted.
+     */
+    private static class DeferredAdaptedTransactions implements DeferredTransactions {
+        private final List<JsonAdaptedTransaction> adaptedTransactions;
+
+        DeferredAdaptedTransactions(List<JsonAdaptedTransaction> adaptedTransactions) {
+            this.adaptedTransactions = adaptedTransactions;
+        }
+
+        @Override
+        public int size() {
+            return adaptedTransactions.size();
+        }
+
+        @Override
+        public List<Transaction> load(int fromIndex, int toIndex) throws DataLoadingException {
+            try {
+                return JsonAdaptedTransaction.toModelTypes(adaptedTransactions.subList(fromIndex, toIndex));
+            } catch (IllegalValueException ive) {
+                throw new DataLoadingException(ive);
+            }
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package unicash.storage;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import unicash.commons.util.ToStringBuilder;
+import unicash.model.budget.Budget;
+
+/**
+ * The manifest of UniCash data kept in month partitions by {@link PartitionedUniCashStorage}:
+ * the partition file of each month, the order of the transactions across partitions, and the budget.
+ *
+ * </p> The order is kept as runs of consecutive transactions dated in the same month, so it takes
+ * little space when transactions were mostly added in date order. Every partition holds exactly as
+ * many transactions as its runs count, in the order they appear in the runs.
+ */
+class PartitionManifest {
+
+    public static final PartitionManifest EMPTY = new PartitionManifest(List.of(), List.of(), null);
+
+    public final List<Partition> partitions;
+    public final List<Run> order;
+    public final Budget budget;
+
+    private final Map<YearMonth, Partition> partitionsByMonth = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code PartitionManifest} of {@code partitions}, which must each be of a different month,
+     * and of the transactions ordered as in {@code order}. {@code budget} may be null.
+     */
+    PartitionManifest(List<Partition> partitions, List<Run> order, Budget budget) {
+        this.partitions = Collections.unmodifiableList(partitions);
+        this.order = Collections.unmodifiableList(order);
+        this.budget = budget;
+        partitions.forEach(partition -> partitionsByMonth.put(partition.month, partition));
+    }
+
+    /**
+     * Returns the partition of {@code month}, or null if there is none.
+     */
+    Partition getPartition(YearMonth month) {
+        return partitionsByMonth.get(month);
+    }
+
+    /**
+     * Returns the total number of transactions in every partition.
+     */
+    int getTransactionCount() {
+        int count = 0;
+        for (Partition partition : partitions) {
+            count += partition.size;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartitionManifest)) {
+            return false;
+        }
+
+        PartitionManifest otherManifest = (PartitionManifest) other;
+        return partitions.equals(otherManifest.partitions)
+                && order.equals(otherManifest.order)
+                && Objects.equals(budget, otherManifest.budget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitions, order, budget);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("partitions", partitions)
+                .add("order", order)
+                .add("budget", budget)
+                .toString();
+    }
+
+    /**
+     * The file holding the transactions of one month. Every time a partition is rewritten, it is
+     * written to a new file under the next revision, so the file of an earlier revision is
+     * left intact until no manifest refers to it.
+     */
+    static class Partition {
+        public final YearMonth month;
+        public final int revision;
+        public final int size;
+
+        Partition(YearMonth month, int revision, int size) {
+            this.month = month;
+            this.revision = revision;
+            this.size = size;
+        }
+
+        /**
+         * Returns the name of the file of this partition, which is unique to its month and revision.
+         */
+        String getFileName() {
+            return month + "." + revision + ".json";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Partition)) {
+                return false;
+            }
+
+            Partition otherPartition = (Partition) other;
+            return month.equals(otherPartition.month)
+                    && revision == otherPartition.revision
+                    && size == otherPartition.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(month, revision, size);
+        }
+
+        @Override
+        public String toString() {
+            return getFileName() + " (" + size + ")";
+        }
+    }
+
+    /**
+     * A run of {@code count} consecutive transactions dated in {@code month}.
+     */
+    static class Run {
+        public final YearMonth month;
+        public final int count;
+
+        Run(YearMonth month, int count) {
+            this.month = month;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Run)) {
+                return false;
+            }
+
+            Run otherRun = (Run) other;
+            return month.equals(otherRun.month) && count == otherRun.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(month, count);
+        }
+
+        @Override
+        public String toString() {
+            return month + " x" + count;
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.DeferredTransactions;
+import unicash.model.PartialUniCash;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.transaction.Transaction;
+
+/**
+ * A class to access UniCash data stored as one json file per month of transactions, plus a
+ * manifest, in a directory on the hard disk.
+ *
+ * </p> Each partition file holds the transactions dated in one month, in the format of
+ * {@link JsonUniCashStorage}. The manifest lists the partitions, the order of the transactions
+ * across them and the budget, and is the only file which refers to the partition files. Saving
+ * compares the given UniCash against the data last read or written, and only rewrites the
+ * partitions whose transactions changed, so editing an old transaction rewrites a single month.
+ *
+ * </p> A changed partition is written to a new file, after which the manifest is replaced to refer
+ * to it and the file it replaces is deleted. A save interrupted at any point leaves the previous
+ * manifest and every file it refers to intact.
+ *
+ * </p> Partition files are only read when their transactions are needed. Loading the most recent
+ * transactions reads the months they are dated in, and older months are read once the rest of
+ * the transactions are loaded. {@link #convertFromJson(Path, Path)} moves data from the format of
+ * {@code JsonUniCashStorage} into this one.
+ */
+public class PartitionedUniCashStorage implements UniCashStorage {
+
+    public static final String PARTITIONS_DIRECTORY_SUFFIX = ".partitions";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_PARTITION_SIZE_MISMATCH =
+            "Partition file %s holds %d transactions instead of %d";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedUniCashStorage.class);
+
+    // The names of partition files, as given by PartitionManifest.Partition#getFileName()
+    private static final Pattern PARTITION_FILE_NAME = Pattern.compile("[+-]?\\d{4,}-\\d{2}\\.\\d+\\.json");
+
+    private final Path filePath;
+
+    // The manifest on disk and the transactions in each of its partitions, as last read or written.
+    // A null transaction has not been read yet, so its partition is rewritten when next saved.
+    private PartitionManifest persistedManifest = null;
+    private final Map<YearMonth, Transaction[]> persistedTransactions = new HashMap<>();
+
+    /**
+     * Creates a {@code PartitionedUniCashStorage} of the manifest at {@code filePath}.
+     * The partition files are kept in the same directory as the manifest.
+     */
+    public PartitionedUniCashStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the manifest of the partitions kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + PARTITIONS_DIRECTORY_SUFFIX)
+                .resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<PartitionReader> reader = openReader(filePath);
+        if (reader.isEmpty()) {
+            return Optional.empty();
+        }
+        PartitionManifest manifest = reader.get().manifest;
+        List<Transaction> transactions = reader.get().read(0, manifest.getTransactionCount());
+        return Optional.of(JsonUniCashStorage.toUniCash(transactions, manifest.budget));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * </p> Only the partitions of the {@code recentCount} transactions at the end of the order are
+     * read. The other partitions are read when the older transactions are loaded.
+     */
+    @Override
+    public Optional<PartialUniCash> readPartialUniCash(int recentCount) throws DataLoadingException {
+        Optional<PartitionReader> reader = openReader(filePath);
+        if (reader.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PartitionManifest manifest = reader.get().manifest;
+        int transactionCount = manifest.getTransactionCount();
+        int deferredCount = Math.max(0, transactionCount - Math.max(0, recentCount));
+        List<Transaction> recentTransactions = reader.get().read(deferredCount, transactionCount);
+        return Optional.of(new PartialUniCash(JsonUniCashStorage.toUniCash(recentTransactions, manifest.budget),
+                new DeferredPartitions(reader.get(), deferredCount)));
+    }
+
+    /**
+     * Returns a reader of the partitions listed in the manifest at {@code filePath}, or
+     * {@code Optional.empty()} if there is no manifest. Reading this storage's own manifest
+     * makes it the persisted manifest, whose transactions are recorded as they are read.
+     */
+    private Optional<PartitionReader> openReader(Path filePath) throws DataLoadingException {
+        Optional<PartitionManifest> manifest = readManifest(filePath);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean isPersisted = filePath.equals(this.filePath);
+        if (isPersisted) {
+            synchronized (this) {
+                persistedManifest = manifest.get();
+                persistedTransactions.clear();
+                manifest.get().partitions.forEach(partition ->
+                        persistedTransactions.put(partition.month, new Transaction[partition.size]));
+            }
+        }
+        return Optional.of(new PartitionReader(filePath.getParent(), manifest.get(), isPersisted));
+    }
+
+    private static Optional<PartitionManifest> readManifest(Path filePath) throws DataLoadingException {
+        Optional<JsonAdaptedPartitionManifest> adaptedManifest =
+                JsonUtil.readJsonFile(filePath, JsonAdaptedPartitionManifest.class);
+        if (adaptedManifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(adaptedManifest.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Records {@code transactions} as the ones on disk in the given slices of partitions, in order,
+     * unless {@code manifest} has been replaced since they were read.
+     */
+    private synchronized void recordPersisted(PartitionManifest manifest, List<Slice> slices,
+            List<Transaction> transactions) {
+        if (manifest != persistedManifest) {
+            return;
+        }
+
+        int index = 0;
+        for (Slice slice : slices) {
+            Transaction[] persisted = persistedTransactions.get(slice.month);
+            for (int i = 0; i < slice.count; i++) {
+                persisted[slice.offset + i] = transactions.get(index++);
+            }
+        }
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     * Saving to any location other than this storage's own rewrites every partition there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new PartitionedUniCashStorage(filePath).saveUniCash(uniCash);
+            return;
+        }
+
+        if (persistedManifest == null) {
+            // Nothing has been read, but the revisions of any partitions on disk must not be reused
+            persistedManifest = readExistingManifest();
+            persistedTransactions.clear();
+        }
+
+        Map<YearMonth, List<Transaction>> transactionsByMonth = new LinkedHashMap<>();
+        List<PartitionManifest.Run> order = new ArrayList<>();
+        YearMonth runMonth = null;
+        int runCount = 0;
+        for (Transaction transaction : uniCash.getTransactionList()) {
+            YearMonth month = YearMonth.from(transaction.getDateTime().getDateTime());
+            transactionsByMonth.computeIfAbsent(month, unused -> new ArrayList<>()).add(transaction);
+            if (!month.equals(runMonth)) {
+                if (runMonth != null) {
+                    order.add(new PartitionManifest.Run(runMonth, runCount));
+                }
+                runMonth = month;
+                runCount = 0;
+            }
+            runCount++;
+        }
+        if (runMonth != null) {
+            order.add(new PartitionManifest.Run(runMonth, runCount));
+        }
+
+        Path directory = filePath.getParent();
+        List<PartitionManifest.Partition> partitions = new ArrayList<>(transactionsByMonth.size());
+        for (Map.Entry<YearMonth, List<Transaction>> entry : transactionsByMonth.entrySet()) {
+            PartitionManifest.Partition persisted = persistedManifest.getPartition(entry.getKey());
+            if (persisted != null && isPersisted(entry.getKey(), entry.getValue())) {
+                partitions.add(persisted);
+                continue;
+            }
+
+            PartitionManifest.Partition written = new PartitionManifest.Partition(entry.getKey(),
+                    persisted == null ? 0 : persisted.revision + 1, entry.getValue().size());
+            JsonUniCashStorage.writeFile(directory.resolve(written.getFileName()), entry.getValue(), null);
+            partitions.add(written);
+        }
+
+        PartitionManifest manifest = new PartitionManifest(partitions, order, uniCash.getBudget());
+        if (!manifest.equals(persistedManifest)) {
+            writeManifest(manifest);
+            deleteUnreferencedPartitions(directory, manifest);
+        }
+
+        persistedManifest = manifest;
+        persistedTransactions.clear();
+        transactionsByMonth.forEach((month, transactions) ->
+                persistedTransactions.put(month, transactions.toArray(new Transaction[0])));
+    }
+
+    /**
+     * Returns the manifest on disk, or an empty manifest if there is none or it cannot be read.
+     */
+    private PartitionManifest readExistingManifest() {
+        try {
+            return readManifest(filePath).orElse(PartitionManifest.EMPTY);
+        } catch (DataLoadingException e) {
+            logger.warning("Existing manifest " + filePath + " will be replaced: " + e.getMessage());
+            return PartitionManifest.EMPTY;
+        }
+    }
+
+    /**
+     * Returns true if {@code transactions} are the same transactions, in the same order,
+     * as the ones on disk in the partition of {@code month}.
+     */
+    private boolean isPersisted(YearMonth month, List<Transaction> transactions) {
+        Transaction[] persisted = persistedTransactions.get(month);
+        if (persisted == null || persisted.length != transactions.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < persisted.length; i++) {
+            Transaction transaction = transactions.get(i);
+            if (persisted[i] != transaction && (persisted[i] == null || !persisted[i].equals(transaction)
+                    || !persisted[i].getId().equals(transaction.getId()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeManifest(PartitionManifest manifest) throws IOException {
+        Path temporaryPath = FileUtil.getTemporaryPath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        JsonUtil.saveJsonFile(new JsonAdaptedPartitionManifest(manifest), temporaryPath);
+        FileUtil.replaceWith(filePath, temporaryPath);
+    }
+
+    /**
+     * Deletes every partition file in {@code directory} which {@code manifest} does not refer to,
+     * including any left behind by an interrupted save.
+     */
+    private static void deleteUnreferencedPartitions(Path directory, PartitionManifest manifest) {
+        Set<String> referencedFileNames = new HashSet<>();
+        manifest.partitions.forEach(partition -> referencedFileNames.add(partition.getFileName()));
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (PARTITION_FILE_NAME.matcher(fileName).matches() && !referencedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            // The data is intact, so the files are left to be deleted by a later save
+            logger.warning("Failed to delete old partitions in " + directory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns a {@code UniCashStorage} for the partitions kept in place of the json file at {@code jsonFilePath},
+     * converting the json file first if it exists and the manifest does not.
+     *
+     * </p> If the json file cannot be converted, a {@code JsonUniCashStorage} for the json file is returned
+     * instead, so that its data is still read from there rather than replaced as if there were no data file.
+     */
+    public static UniCashStorage convertedFromJson(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        Path manifestFilePath = getManifestFilePath(jsonFilePath);
+        if (Files.exists(manifestFilePath) || !Files.exists(jsonFilePath)) {
+            return new PartitionedUniCashStorage(manifestFilePath);
+        }
+
+        logger.info("Converting data file " + jsonFilePath + " to partitions in " + manifestFilePath.getParent());
+        try {
+            convertFromJson(jsonFilePath, manifestFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file " + jsonFilePath + " could not be converted, so it will be used as it is: "
+                    + e.getMessage());
+            return new JsonUniCashStorage(jsonFilePath);
+        }
+        return new PartitionedUniCashStorage(manifestFilePath);
+    }
+
+    /**
+     * Writes the UniCash data in the json file at {@code jsonFilePath} to partitions listed in a
+     * manifest at {@code manifestFilePath}.
+     *
+     * @throws DataLoadingException if the json file could not be read.
+     * @throws IOException if the partitions could not be written.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path manifestFilePath)
+            throws DataLoadingException, IOException {
+        requireNonNull(manifestFilePath);
+        Optional<ReadOnlyUniCash> uniCash = new JsonUniCashStorage(jsonFilePath).readUniCash();
+        if (uniCash.isPresent()) {
+            new PartitionedUniCashStorage(manifestFilePath).saveUniCash(uniCash.get());
+        }
+    }
+
+    /**
+     * A run of {@code count} transactions starting at {@code offset} within the partition of {@code month}.
+     */
+    private static class Slice {
+        private final YearMonth month;
+        private final int offset;
+        private final int count;
+
+        private Slice(YearMonth month, int offset, int count) {
+            this.month = month;
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Reads the transactions listed in a manifest, by their position in its order, reading each
+     * partition file the first time one of its transactions is needed. A partition file is
+     * forgotten once every one of its transactions has been read.
+     */
+    private class PartitionReader {
+        private final Path directory;
+        private final PartitionManifest manifest;
+        private final boolean isPersisted;
+
+        // The position in the order, and in its partition, of the first transaction of each run
+        private final int[] runStarts;
+        private final int[] runOffsets;
+
+        private final Map<YearMonth, List<JsonAdaptedTransaction>> readPartitions = new HashMap<>();
+        private final Map<YearMonth, Integer> unreadCounts = new HashMap<>();
+
+        PartitionReader(Path directory, PartitionManifest manifest, boolean isPersisted) {
+            this.directory = directory;
+            this.manifest = manifest;
+            this.isPersisted = isPersisted;
+
+            runStarts = new int[manifest.order.size()];
+            runOffsets = new int[manifest.order.size()];
+            Map<YearMonth, Integer> partitionOffsets = new HashMap<>();
+            int start = 0;
+            for (int i = 0; i < runStarts.length; i++) {
+                PartitionManifest.Run run = manifest.order.get(i);
+                runStarts[i] = start;
+                runOffsets[i] = partitionOffsets.getOrDefault(run.month, 0);
+                partitionOffsets.put(run.month, runOffsets[i] + run.count);
+                start += run.count;
+            }
+            manifest.partitions.forEach(partition -> unreadCounts.put(partition.month, partition.size));
+        }
+
+        /**
+         * Returns the transactions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive,
+         * of the order in the manifest.
+         */
+        synchronized List<Transaction> read(int fromIndex, int toIndex) throws DataLoadingException {
+            List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>(toIndex - fromIndex);
+            List<Slice> slices = new ArrayList<>();
+
+            // The last run starting at or before fromIndex holds it
+            int run = Arrays.binarySearch(runStarts, fromIndex);
+            run = run >= 0 ? run : -run - 2;
+            for (int index = fromIndex; index < toIndex; run++) {
+                PartitionManifest.Run currentRun = manifest.order.get(run);
+                int start = index - runStarts[run];
+                int end = Math.min(currentRun.count, toIndex - runStarts[run]);
+                int offset = runOffsets[run] + start;
+                adaptedTransactions.addAll(getPartition(currentRun.month).subList(offset, offset + end - start));
+                slices.add(new Slice(currentRun.month, offset, end - start));
+                index += end - start;
+            }
+
+            List<Transaction> transactions;
+            try {
+                transactions = JsonAdaptedTransaction.toModelTypes(adaptedTransactions);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in partitions of " + directory + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+
+            if (isPersisted) {
+                recordPersisted(manifest, slices, transactions);
+            }
+            for (Slice slice : slices) {
+                if (unreadCounts.merge(slice.month, -slice.count, Integer::sum) == 0) {
+                    readPartitions.remove(slice.month);
+                }
+            }
+            return transactions;
+        }
+
+        private List<JsonAdaptedTransaction> getPartition(YearMonth month) throws DataLoadingException {
+            List<JsonAdaptedTransaction> partition = readPartitions.get(month);
+            if (partition != null) {
+                return partition;
+            }
+
+            PartitionManifest.Partition listedPartition = manifest.getPartition(month);
+            Path partitionPath = directory.resolve(listedPartition.getFileName());
+            if (!Files.exists(partitionPath)) {
+                throw new DataLoadingException(new IOException("Missing partition file " + partitionPath));
+            }
+            partition = JsonUniCashStorage.readAdaptedTransactions(partitionPath);
+            if (partition.size() != listedPartition.size) {
+                throw new DataLoadingException(new IllegalValueException(String.format(
+                        MESSAGE_PARTITION_SIZE_MISMATCH, partitionPath, partition.size(), listedPartition.size)));
+            }
+            readPartitions.put(month, partition);
+            return partition;
+        }
+    }
+
+    /**
+     * The transactions at the start of the order of a manifest, which are read when they are loaded.
+     */
+    private static class DeferredPartitions implements DeferredTransactions {
+        private final PartitionReader reader;
+        private final int size;
+
+        DeferredPartitions(PartitionReader reader, int size) {
+            this.reader = reader;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<Transaction> load(int fromIndex, int toIndex) throws DataLoadingException {
+            return reader.read(fromIndex, toIndex);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import unicash.commons.core.LogsCenter;
 import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.PartialUniCash;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UserPrefs;
@@ -64,6 +65,13 @@ public class StorageManager implements Storage {
         return uniCashStorage.readUniCash(filePath);
     }
 
+    @Override
+    public Optional<PartialUniCash> readPartialUniCash(int recentCount) throws DataLoadingException {
+        logger.fine("Attempting to read the " + recentCount + " most recent transactions from file: "
+                + uniCashStorage.getUniCashFilePath());
+        return uniCashStorage.readPartialUniCash(recentCount);
+    }
+
     @Override
     public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
         saveUniCash(uniCash, uniCashStorage.getUniCashFilePath());
@@ -75,4 +83,9 @@ public class StorageManager implements Storage {
         uniCashStorage.saveUniCash(uniCash, filePath);
     }
 
+    @Override
+    public boolean canSaveChanges() {
+        return uniCashStorage.canSaveChanges();
+    }
+
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.PartialUniCash;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
 
@@ -31,6 +32,18 @@ public interface UniCashStorage {
      */
     Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns UniCash data with at least its {@code recentCount} most recent transactions loaded,
+     * and any older transactions deferred to be loaded later. Storage formats which cannot defer
+     * loading load every transaction.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<PartialUniCash> readPartialUniCash(int recentCount) throws DataLoadingException {
+        return readUniCash().map(PartialUniCash::new);
+    }
+
     /**
      * Saves the given {@link ReadOnlyUniCash} to the storage.
      *
@@ -44,4 +57,12 @@ public interface UniCashStorage {
      */
     void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException;
 
+    /**
+     * Returns true if this storage saves a {@code UniCashSnapshot} holding only the changes made since
+     * the data it saved last, and false if every snapshot given to it must hold a copy of the transactions.
+     */
+    default boolean canSaveChanges() {
+        return false;
+    }
+
 }
@@ -2,6 +2,7 @@ package unicash.ui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -9,8 +10,6 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import unicash.logic.Logic;
 import unicash.logic.commands.CommandResult;
-import unicash.logic.commands.exceptions.CommandException;
-import unicash.logic.parser.exceptions.ParseException;
 
 
 /**
@@ -21,6 +20,9 @@ import unicash.logic.parser.exceptions.ParseException;
  * The user can traverse through this history with the standard Keyboard Input
  * {@code UP} and {@code DOWN} arrow keys. The User Input History only persists
  * during the application's runtime, and will be reset once the application is closed.
+ *
+ * </p> Entered commands are executed in the background, in the order they were entered, so the
+ * command box is cleared at once and the next command can be typed while earlier ones run.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -92,11 +94,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns a future of the result which completes on the
+         * JavaFX application thread, exceptionally if the command fails.
          *
-         * @see Logic#execute(String)
+         * @see Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
@@ -118,19 +121,31 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            // Limits user input history to 10 previous entries
-            if (userInputHistory.size() < 10) {
-                addUserInputToHistory(commandText);
-            } else {
-                userInputHistory.remove(0);
-                addUserInputToHistory(commandText);
+        // Limits user input history to 10 previous entries
+        if (userInputHistory.size() < 10) {
+            addUserInputToHistory(commandText);
+        } else {
+            userInputHistory.remove(0);
+            addUserInputToHistory(commandText);
+        }
+        clearCommandTextField();
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText);
             }
-            commandExecutor.execute(commandText);
-            clearCommandTextField();
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Indicates that {@code commandText} failed. The failed command is put back in the command
+     * text field to be corrected, unless the user has started typing another command since.
+     */
+    private void handleCommandFailure(String commandText) {
+        if (commandTextField.getText().isEmpty()) {
+            commandTextField.setText(commandText);
+            commandTextField.end();
         }
+        setStyleToIndicateCommandFailure();
     }
 
     /**
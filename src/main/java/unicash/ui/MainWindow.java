@@ -2,8 +2,13 @@ package unicash.ui;
 
 import static unicash.logic.UniCashMessages.MESSAGE_UNICASH_WELCOME;
 
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,8 +21,6 @@ import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
 import unicash.logic.Logic;
 import unicash.logic.commands.CommandResult;
-import unicash.logic.commands.exceptions.CommandException;
-import unicash.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -122,6 +125,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplay.setFeedbackToUser(MESSAGE_UNICASH_WELCOME);
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(
                 logic.getUniCashFilePath(), logic.getFilteredTransactionList());
@@ -161,12 +165,32 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void handleSummary() {
         if (!summaryWindow.isShowing()) {
-            summaryWindow.show(logic.getExpenseSummaryPerCategory());
+            // The charts are not kept up to date while the summary window is hidden
+            updateSummary(true);
         } else {
             summaryWindow.focus();
         }
     }
 
+    /**
+     * Updates the charts in the summary window with the expense summaries, which are read on the
+     * command thread once every command given so far has finished. The summary window is then
+     * shown if {@code show} is true.
+     */
+    private void updateSummary(boolean show) {
+        CompletableFuture<HashMap<String, Double>> perCategory =
+                logic.submitQuery(logic::getExpenseSummaryPerCategory);
+        CompletableFuture<HashMap<YearMonth, Double>> perYearMonth =
+                logic.submitQuery(logic::getExpenseSummaryPerYearMonth);
+        perCategory.thenAcceptBothAsync(perYearMonth, (categorySummary, yearMonthSummary) -> {
+            summaryWindow.setPieChart(categorySummary);
+            summaryWindow.setLineGraph(yearMonthSummary);
+            if (show) {
+                summaryWindow.show(categorySummary);
+            }
+        }, Platform::runLater);
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -185,17 +209,25 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command, and returns a future of the result which completes on the
+     * JavaFX application thread once the result has been shown.
      *
-     * @see Logic#execute(String)
+     * @see Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).handleAsync((commandResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                throw new CompletionException(cause);
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            summaryWindow.setPieChart(logic.getExpenseSummaryPerCategory());
-            summaryWindow.setLineGraph(logic.getExpenseSummaryPerYearMonth());
+            if (summaryWindow.isShowing()) {
+                updateSummary(false);
+            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -210,11 +242,7 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 
 }
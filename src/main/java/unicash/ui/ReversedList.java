@@ -0,0 +1,94 @@
+package unicash.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A live view of an {@code ObservableList} in reverse order.
+ *
+ * </p> Nothing is copied: every index into the view is mirrored onto the source, and every change
+ * to the source is forwarded as the same change at the mirrored indexes. A list showing the view
+ * is therefore told exactly which items were added, removed or replaced, instead of being given
+ * a whole new list whenever the source changes.
+ */
+class ReversedList<E> extends TransformationList<E, E> {
+
+    /**
+     * Creates a {@code ReversedList} view of {@code source}.
+     */
+    ReversedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return size() - 1 - index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return size() - 1 - index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        // Each step of the change is given relative to the size of the source before that step
+        int size = getSource().size();
+        while (change.next()) {
+            size -= change.getAddedSize() - change.getRemovedSize();
+        }
+        change.reset();
+
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int viewIndex = size - to; viewIndex < size - from; viewIndex++) {
+                    permutation[viewIndex - (size - to)] = size - 1 - change.getPermutation(size - 1 - viewIndex);
+                }
+                nextPermutation(size - to, size - from, permutation);
+            } else if (change.wasUpdated()) {
+                for (int index = from; index < to; index++) {
+                    nextUpdate(size - 1 - index);
+                }
+            } else {
+                // The removed items and the added ones both end where the items before them in the source begin
+                int viewFrom = size - from - change.getRemovedSize();
+                List<E> removed = new ArrayList<>(change.getRemoved());
+                Collections.reverse(removed);
+                if (change.wasRemoved() && change.wasAdded()) {
+                    nextReplace(viewFrom, viewFrom + change.getAddedSize(), removed);
+                } else if (change.wasRemoved()) {
+                    nextRemove(viewFrom, removed);
+                } else {
+                    nextAdd(viewFrom, viewFrom + change.getAddedSize());
+                }
+                size += change.getAddedSize() - change.getRemovedSize();
+            }
+        }
+        endChange();
+    }
+}
@@ -13,6 +13,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import unicash.commons.enums.TransactionType;
+import unicash.model.commons.Amount;
 import unicash.model.transaction.Transaction;
 
 /**
@@ -34,6 +35,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private ObservableList<Transaction> transactions;
 
+    // The balance of the transactions on display, in cents
+    private long balance;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path} indicating the
      * current Data Source and a given {@code ObservableList} of transactions to
@@ -47,19 +51,18 @@ public class StatusBarFooter extends UiPart<Region> {
 
         /*
          * This initiates the first indication of balance upon application start,
-         * before the method is added as a listener.
+         * before the listener is added.
          */
         updateBalance(transactions);
 
         /*
-         * The {@code updateBalance} method is added as a listener, which means that every
-         * time the transactions list is updated, the balanceIndicator would be updated
-         * dynamically. This is done with a {@code ListChangeListener} that reports a list
-         * of changes done to an {@code ObservableList}
+         * Every time the transactions list is updated, the balance is adjusted by the
+         * transactions added and removed, as reported by the {@code ListChangeListener},
+         * so that the cost of an update depends only on the size of the change.
          */
         transactions.addListener((
                 ListChangeListener.Change<? extends Transaction> c) -> {
-            updateBalance(transactions);
+            applyBalanceChange(c);
         });
     }
 
@@ -80,32 +83,61 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     @FXML
     public void updateBalance(ObservableList<Transaction> transactions) {
-        double balance = 0.0;
-        String balanceString = String.valueOf(balance);
-
+        balance = 0;
         for (Transaction t : transactions) {
-            if (t.getTypeString().equalsIgnoreCase(String.valueOf(
-                    TransactionType.EXPENSE))) {
-                balance -= t.getAmount().amount;
-            } else {
-                balance += t.getAmount().amount;
+            balance += getSignedCents(t);
+        }
+        showBalance();
+    }
+
+    /**
+     * Adjusts the balance by the transactions removed and added in {@code change}.
+     * The balance is tabulated again only if a transaction was updated in place,
+     * since its previous amount is not reported.
+     */
+    private void applyBalanceChange(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                updateBalance(transactions);
+                return;
+            }
+            for (Transaction t : change.getRemoved()) {
+                balance -= getSignedCents(t);
+            }
+            for (Transaction t : change.getAddedSubList()) {
+                balance += getSignedCents(t);
             }
         }
+        showBalance();
+    }
+
+    /**
+     * Returns the amount of {@code transaction} in cents, negated if it is an expense.
+     */
+    private static long getSignedCents(Transaction transaction) {
+        long cents = transaction.getAmount().cents;
+        return transaction.getType().type == TransactionType.EXPENSE ? -cents : cents;
+    }
 
-        if (Double.compare(balance, 0) < 0) {
-            double formattedNegativeBalance = Math.abs(balance);
-            balanceString = NEGATIVE_BALANCE_STRING + String.format("%.2f", formattedNegativeBalance);
+    /**
+     * Displays the current balance, colored green, red, or black for positive,
+     * negative and zero balances respectively.
+     */
+    private void showBalance() {
+        String balanceString;
+        if (balance < 0) {
+            balanceString = NEGATIVE_BALANCE_STRING + Amount.centsToDecimalString(-balance);
         } else {
-            balanceString = POSITIVE_BALANCE_STRING + String.format("%.2f", balance);
+            balanceString = POSITIVE_BALANCE_STRING + Amount.centsToDecimalString(balance);
         }
 
         balanceIndicator.setText(balanceString);
 
         // Set color to green, red, and black for positive, negative and zero respectively.
-        if (Double.compare(balance, 0) < 0) {
+        if (balance < 0) {
             balanceIndicator.setStyle(TEXT_FILL_RED);
 
-        } else if (Double.compare(balance, 0) > 0) {
+        } else if (balance > 0) {
             balanceIndicator.setStyle(TEXT_FILL_GREEN);
 
         } else {
@@ -4,6 +4,8 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -92,46 +94,112 @@ public class SummaryWindow extends UiPart<Stage> {
     /**
      * Updates the pie chart with expense data
      * Note that only MAX_DISPLAYED_CATEGORIES number of categories will be displayed on the pie chart
+     *
+     * </p> Slices of categories that are still displayed are updated in place, so that only the slices
+     * whose amounts changed are animated. New slices are inserted, and existing slices are moved, so that
+     * the slices stay ordered from the largest amount to the smallest.
      */
     public void setPieChart(HashMap<String, Double> expenseSummary) {
-        pieChart.getData().clear();
-
         if (expenseSummary.isEmpty()) {
             summaryMessage.setText(SUMMARY_MESSAGE_WHEN_NO_TRANSACTIONS);
-        } else {
-            summaryMessage.setText(SUMMARY_MESSAGE);
-            ObservableList<PieChart.Data> pieChartData = expenseSummary.entrySet().stream()
-                    .map(entry -> new PieChart.Data(entry.getKey(), entry.getValue()))
-                    .sorted(Comparator.comparing(PieChart.Data::getPieValue).reversed())
-                    .limit(MAX_DISPLAYED_CATEGORIES)
-                    .collect(Collectors.toCollection(FXCollections::observableArrayList));
-
-            pieChart.getData().setAll(pieChartData);
-            summaryMessageContainer.layout();
+            pieChart.getData().clear();
+            return;
+        }
+
+        summaryMessage.setText(SUMMARY_MESSAGE);
+        List<Map.Entry<String, Double>> displayedSummary = expenseSummary.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(MAX_DISPLAYED_CATEGORIES)
+                .collect(Collectors.toList());
+        Map<String, Integer> displayedPositions = new HashMap<>();
+        for (int i = 0; i < displayedSummary.size(); i++) {
+            displayedPositions.put(displayedSummary.get(i).getKey(), i);
+        }
+
+        ObservableList<PieChart.Data> pieChartData = pieChart.getData();
+        pieChartData.removeIf(data -> !displayedPositions.containsKey(data.getName()));
+        Map<String, PieChart.Data> slices = pieChartData.stream()
+                .collect(Collectors.toMap(PieChart.Data::getName, data -> data));
+        for (int i = 0; i < displayedSummary.size(); i++) {
+            Map.Entry<String, Double> entry = displayedSummary.get(i);
+            PieChart.Data slice = slices.get(entry.getKey());
+            if (slice == null) {
+                pieChartData.add(Math.min(i, pieChartData.size()), new PieChart.Data(entry.getKey(), entry.getValue()));
+            } else if (slice.getPieValue() != entry.getValue()) {
+                slice.setPieValue(entry.getValue());
+            }
         }
+
+        Comparator<PieChart.Data> byDisplayedPosition = Comparator.comparing(data ->
+                displayedPositions.get(data.getName()));
+        if (!isSorted(pieChartData, byDisplayedPosition)) {
+            FXCollections.sort(pieChartData, byDisplayedPosition);
+        }
+        summaryMessageContainer.layout();
     }
 
     /**
      * Updates the line chart with expense data
      * Note that only MAX_DISPLAYED_YEAR_MONTHS number of year-months will be displayed on the line chart
+     *
+     * </p> The displayed year-months stay the same, so once the line chart is drawn only the points
+     * whose amounts changed are updated.
      */
     public void setLineGraph(HashMap<YearMonth, Double> expenseSummary) {
-        lineChart.getData().clear();
-
         HashMap<YearMonth, Double> updatedExpenseSummary = preprocessExpenseSummary(expenseSummary);
 
-        XYChart.Series<String, Double> series = new XYChart.Series<>();
-        ObservableList<XYChart.Data<String, Double>> lineChartData = updatedExpenseSummary.entrySet().stream()
+        List<XYChart.Data<String, Double>> lineChartData = updatedExpenseSummary.entrySet().stream()
                 .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
                 .filter(entry -> isValidYearMonth(entry.getKey()))
                 .map(entry -> new XYChart.Data<>(entry.getKey().format(formatter), entry.getValue()))
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
-        series.getData().addAll(lineChartData);
+                .collect(Collectors.toList());
 
-        lineChart.getData().add(series);
+        if (lineChart.getData().isEmpty()) {
+            lineChart.getData().add(new XYChart.Series<>());
+        }
+        ObservableList<XYChart.Data<String, Double>> points = lineChart.getData().get(0).getData();
+        if (!haveSameXValues(points, lineChartData)) {
+            points.setAll(lineChartData);
+        } else {
+            for (int i = 0; i < points.size(); i++) {
+                XYChart.Data<String, Double> point = points.get(i);
+                Double yValue = lineChartData.get(i).getYValue();
+                if (!point.getYValue().equals(yValue)) {
+                    point.setYValue(yValue);
+                }
+            }
+        }
         summaryMessageContainer.layout();
     }
 
+    /**
+     * Returns true if {@code list} is in the order given by {@code comparator}.
+     */
+    private static <T> boolean isSorted(List<T> list, Comparator<? super T> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            if (comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} have the same x-values in the same order.
+     */
+    private static boolean haveSameXValues(List<XYChart.Data<String, Double>> first,
+                                           List<XYChart.Data<String, Double>> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).getXValue().equals(second.get(i).getXValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if yearMonth is between now and EARLIEST_YEAR_MONTH, and false otherwise.
      * Note: This function also returns true if yearMonth is the same as the year-month of now
@@ -8,27 +8,32 @@ import static unicash.ui.StyleSheet.TEXT_FILL_RED;
 import static unicash.ui.StyleSheet.TRANSACTION_ID_SEPARATOR;
 import static unicash.ui.StyleSheet.getBrightColorFromHash;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import unicash.commons.enums.TransactionType;
 import unicash.model.category.Category;
-import unicash.model.category.UniqueCategoryList;
 import unicash.model.transaction.Transaction;
 
 
 /**
  * A UI component that displays information of a {@code Transaction}.
+ *
+ * </p> A card can be rebound to another {@code Transaction} with {@link #setTransaction(Transaction, int)},
+ * so that a list cell loads its card from FXML once and reuses it for every item it shows.
  */
 public class TransactionCard extends UiPart<Region> {
 
     private static final String FXML = "TransactionCard.fxml";
 
+    // Only used on the JavaFX application thread. Categories are shared, so the cache stays small.
+    private static final Map<Category, String> CATEGORY_STYLES = new HashMap<>();
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -36,7 +41,7 @@ public class TransactionCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-    public final Transaction transaction;
+    private Transaction transaction;
 
     @FXML
     private HBox cardPane;
@@ -67,6 +72,16 @@ public class TransactionCard extends UiPart<Region> {
     @FXML
     private Label fifthCategory;
 
+    private final Label[] categoryLabels;
+
+    /**
+     * Creates an empty {@code TransactionCard}, to be given a {@code Transaction} to display
+     * with {@link #setTransaction(Transaction, int)}.
+     */
+    public TransactionCard() {
+        super(FXML);
+        categoryLabels = new Label[] {firstCategory, secondCategory, thirdCategory, fourthCategory, fifthCategory};
+    }
 
     /**
      * Creates a {@code TransactionCard} with the given {@code Transaction} and index to display.
@@ -74,9 +89,15 @@ public class TransactionCard extends UiPart<Region> {
      * All transactions are assumed to be made in dollars.
      */
     public TransactionCard(Transaction transaction, int displayedIndex) {
-        super(FXML);
+        this();
+        setTransaction(transaction, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Transaction} and index on this card, replacing whatever it showed before.
+     */
+    public void setTransaction(Transaction transaction, int displayedIndex) {
         this.transaction = transaction;
-        id.setText(displayedIndex + TRANSACTION_ID_SEPARATOR);
 
         idStyleFormatter(displayedIndex);
         nameStyleFormatter();
@@ -86,6 +107,20 @@ public class TransactionCard extends UiPart<Region> {
         discreteCategoriesStyleFormatter();
     }
 
+    /**
+     * Displays {@code displayedIndex} as the index of the {@code Transaction} on this card.
+     */
+    public void setDisplayedIndex(int displayedIndex) {
+        idStyleFormatter(displayedIndex);
+    }
+
+    /**
+     * Returns the transaction displayed on this card.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
     /**
      * Returns the name label of the transaction card.
      *
@@ -171,7 +206,7 @@ public class TransactionCard extends UiPart<Region> {
 
     /**
      * For better presentation of the transaction category, instead of using the
-     * toString method of the UniqueCategoryList directly, the leading and trailing
+     * toString method of the CategorySet directly, the leading and trailing
      * square brackets are trimmed, and prepended with a "hashtag".
      */
     private void categoriesStyleFormatter() {
@@ -187,36 +222,34 @@ public class TransactionCard extends UiPart<Region> {
     /**
      * For color coding every category using its hash value to generate a distinct
      * and unique color without having to store additional color information inside
-     * the {@code Category} class.
+     * the {@code Category} class. Labels left over from a previous transaction with
+     * more categories are cleared.
      **/
     private void discreteCategoriesStyleFormatter() {
-        UniqueCategoryList categoryUniqueList = transaction.getCategories();
-        ObservableList<Category> categoryObservableList =
-                categoryUniqueList.asUnmodifiableObservableList();
-        Iterator<Category> categoryIterator = categoryUniqueList.iterator();
-        ArrayList<Category> categoryArrayList = new ArrayList<>();
-
-        Label[] labelArrayList = new Label[] {firstCategory, secondCategory,
-            thirdCategory, fourthCategory, fifthCategory};
-
-        for (Category c : categoryObservableList) {
-            categoryArrayList.add(c);
-        }
-
-        for (int i = 0; i < categoryArrayList.size(); i++) {
-            Category currentCategory = categoryArrayList.get(i);
-            String categoryColorHexString =
-                    getBrightColorFromHash(currentCategory);
+        List<Category> categoryList = transaction.getCategories().asList();
 
-            Label currentCategoryLabel = labelArrayList[i];
+        for (int i = 0; i < categoryLabels.length; i++) {
+            Label currentCategoryLabel = categoryLabels[i];
+            if (i >= categoryList.size()) {
+                currentCategoryLabel.setText("");
+                currentCategoryLabel.setStyle("");
+                continue;
+            }
 
+            Category currentCategory = categoryList.get(i);
             currentCategoryLabel.setText(currentCategory.categoryToStringWithPrefix());
-            currentCategoryLabel.setStyle(String.format(TEXT_BACKGROUND_COLOR_SPECIFIER,
-                    categoryColorHexString));
-
+            currentCategoryLabel.setStyle(getCategoryStyle(currentCategory));
         }
     }
 
+    /**
+     * Returns the style of the label of {@code category}, computing its color only the first time.
+     */
+    private static String getCategoryStyle(Category category) {
+        return CATEGORY_STYLES.computeIfAbsent(category, unused ->
+                String.format(TEXT_BACKGROUND_COLOR_SPECIFIER, getBrightColorFromHash(category)));
+    }
+
     // TODO: Customize transactionLocation label style
     private void transactionLocationStyleFormatter() {
         String transactionLocationToString = transaction.getLocation().toString();
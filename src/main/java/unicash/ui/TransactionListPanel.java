@@ -3,7 +3,7 @@ package unicash.ui;
 import java.util.logging.Logger;
 
 import javafx.beans.binding.Bindings;
-import javafx.collections.FXCollections;
+import javafx.beans.binding.IntegerBinding;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -28,34 +28,30 @@ public class TransactionListPanel extends UiPart<Region> {
      */
     public TransactionListPanel(ObservableList<Transaction> transactionList) {
         super(FXML);
-        transactionListView.setItems(transactionList);
+        // The most recent Transactions are shown first, through a live view which forwards each change
+        transactionListView.setItems(new ReversedList<>(transactionList));
         transactionListView.setCellFactory(
                 listView -> new TransactionListViewCell(transactionList));
-
-        /* Binds items property of the ListView to an ObservableList. Whenever the list is
-         * updated (like reversing its order), the ListView will reflect the changes. The
-         * item of the ListView is kept in sync with a reversed version of the ObservableList. */
-        transactionListView.itemsProperty()
-                .bind(
-                        Bindings.createObjectBinding(() -> {
-                            ObservableList<Transaction> reversedList =
-                                    FXCollections.observableArrayList(transactionList);
-
-                            FXCollections.reverse(reversedList);
-
-                            return reversedList;
-                        }, transactionList)
-            );
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Transaction}
-     * using a {@code TransactionCard}.
+     * using a {@code TransactionCard}. Each cell creates its card once, and rebinds
+     * it to whichever {@code Transaction} the cell is showing.
+     *
+     * </p> A Transaction is numbered by its position in the list, so adding or removing one
+     * renumbers the Transactions after it while their cells keep showing them. The number is
+     * therefore bound to the cell's index and the size of the list, and only the number on
+     * the card is updated when either changes.
      */
     class TransactionListViewCell extends ListCell<Transaction> {
 
         private ObservableList<Transaction> internalTransactionList;
 
+        private TransactionCard transactionCard;
+
+        private final IntegerBinding displayIndex;
+
         /**
          * Creates a TransactionListViewCell taking in an ObservableList
          * type parameterized to Transactions. This would later be used for retrieving the
@@ -66,6 +62,13 @@ public class TransactionListPanel extends UiPart<Region> {
          */
         public TransactionListViewCell(ObservableList<Transaction> transactionList) {
             internalTransactionList = transactionList;
+            displayIndex = Bindings.createIntegerBinding(() ->
+                    internalTransactionList.size() - getIndex(), indexProperty(), internalTransactionList);
+            displayIndex.addListener((unused, oldIndex, newIndex) -> {
+                if (transactionCard != null && !isEmpty() && getItem() != null) {
+                    transactionCard.setDisplayedIndex(newIndex.intValue());
+                }
+            });
         }
 
         @Override
@@ -76,8 +79,11 @@ public class TransactionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                int displayIndex = internalTransactionList.size() - getIndex();
-                setGraphic(new TransactionCard(transaction, displayIndex).getRoot());
+                if (transactionCard == null) {
+                    transactionCard = new TransactionCard();
+                }
+                transactionCard.setTransaction(transaction, displayIndex.get());
+                setGraphic(transactionCard.getRoot());
             }
         }
     }
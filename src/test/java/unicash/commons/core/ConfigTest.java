@@ -16,7 +16,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", initialTransactionCount=" + config.getInitialTransactionCount()
+                + ", maxTransactionCount=" + config.getMaxTransactionCount() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -36,6 +38,14 @@ public class ConfigTest {
         otherConfig = new Config();
         otherConfig.setUserPrefsFilePath(Path.of("invalid_path.txt"));
         assertNotEquals(otherConfig, defaultConfig);
+
+        otherConfig = new Config();
+        otherConfig.setInitialTransactionCount(-1);
+        assertNotEquals(otherConfig, defaultConfig);
+
+        otherConfig = new Config();
+        otherConfig.setMaxTransactionCount(1000000);
+        assertNotEquals(otherConfig, defaultConfig);
     }
 
     @Test
@@ -1,10 +1,14 @@
 package unicash.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -41,4 +45,44 @@ public class FileUtilTest {
         FileUtil.createFile(path);
     }
 
+    @Test
+    public void newMappedInputStream_existingFile_readsContents() throws IOException {
+        Path path = temporaryFolder.resolve("mapped");
+        byte[] contents = "mapped contents".getBytes(StandardCharsets.UTF_8);
+        Files.write(path, contents);
+
+        try (InputStream in = FileUtil.newMappedInputStream(path)) {
+            assertArrayEquals(contents, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void newMappedInputStream_emptyFile_readsNothing() throws IOException {
+        Path path = temporaryFolder.resolve("empty");
+        Files.createFile(path);
+
+        try (InputStream in = FileUtil.newMappedInputStream(path)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void newMappedInputStream_afterReading_fileCanBeReplaced() throws IOException {
+        Path path = temporaryFolder.resolve("mapped");
+        Path replacement = FileUtil.getTemporaryPath(path);
+        Files.write(path, new byte[] {1, 2, 3});
+        Files.write(replacement, new byte[] {4});
+
+        try (InputStream in = FileUtil.newMappedInputStream(path)) {
+            assertArrayEquals(new byte[] {1, 2, 3}, in.readAllBytes());
+        }
+        FileUtil.replaceWith(path, replacement);
+        assertArrayEquals(new byte[] {4}, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void newMappedInputStream_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> FileUtil.newMappedInputStream(temporaryFolder.resolve("missing")));
+    }
+
 }
@@ -0,0 +1,38 @@
+package unicash.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static unicash.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        InternPool<String> pool = new InternPool<>();
+        String first = new String("food");
+        String second = new String("food");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_differentValues_eachKept() {
+        InternPool<String> pool = new InternPool<>();
+        String food = new String("food");
+        String travel = new String("travel");
+
+        assertSame(food, pool.intern(food));
+        assertSame(travel, pool.intern(travel));
+        assertEquals(2, pool.size());
+    }
+}
@@ -0,0 +1,79 @@
+package unicash.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.category.Category;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+
+public class ValidationUtilTest {
+
+    // Alphanumeric characters, then the other characters of a name, then characters outside every grammar
+    private static final String CHARACTERS = "aZ09_&#.,()@- \t\n$[]!*+\u00e9\u0663\uff21";
+    private static final int ALPHANUMERIC_COUNT = 4;
+    private static final int NAME_CHARACTER_COUNT = 14;
+
+    @Test
+    public void isAlphanumericText_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericText(null, "", true, 1));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericText("a", null, true, 1));
+    }
+
+    @Test
+    public void isAlphanumericText() {
+        // invalid text
+        assertFalse(ValidationUtil.isAlphanumericText("", "", true, 5)); // empty string
+        assertFalse(ValidationUtil.isAlphanumericText(" a", "", true, 5)); // leading space
+        assertFalse(ValidationUtil.isAlphanumericText("a b", "", false, 5)); // space not allowed
+        assertFalse(ValidationUtil.isAlphanumericText("a-b", "_", true, 5)); // symbol not allowed
+        assertFalse(ValidationUtil.isAlphanumericText("abcdef", "", true, 5)); // too long
+        assertFalse(ValidationUtil.isAlphanumericText("caf\u00e9", "", true, 5)); // non-ASCII letter
+
+        // valid text
+        assertTrue(ValidationUtil.isAlphanumericText("a", "", false, 5));
+        assertTrue(ValidationUtil.isAlphanumericText("a b ", "", true, 5)); // trailing space
+        assertTrue(ValidationUtil.isAlphanumericText("-a_b", "_-", false, 5)); // leading symbol
+        assertTrue(ValidationUtil.isAlphanumericText("abcde", "", true, 5)); // maximum length
+    }
+
+    @Test
+    public void isValid_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings()) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+            assertEquals(test.matches(Location.VALIDATION_REGEX), Location.isValidLocation(test), test);
+            assertEquals(test.matches(Category.VALIDATION_REGEX), Category.isValidCategory(test), test);
+        }
+    }
+
+    /**
+     * Returns strings made of {@code CHARACTERS}, of every length up to past each maximum length.
+     * Most strings are drawn only from alphanumeric characters, or only from the characters of a
+     * name, so that long strings are not all rejected early, with the odd character from the rest.
+     */
+    private static List<String> getRandomStrings() {
+        Random random = new Random(2023);
+        int[] characterPoolSizes = {ALPHANUMERIC_COUNT, NAME_CHARACTER_COUNT, CHARACTERS.length()};
+        List<String> strings = new ArrayList<>();
+        for (int length : new int[] {0, 1, 2, 3, 14, 15, 16, 499, 500, 501}) {
+            for (int i = 0; i < 300; i++) {
+                int poolSize = characterPoolSizes[random.nextInt(characterPoolSizes.length)];
+                StringBuilder builder = new StringBuilder();
+                for (int j = 0; j < length; j++) {
+                    int bound = random.nextInt(length * 4) == 0 ? CHARACTERS.length() : poolSize;
+                    builder.append(CHARACTERS.charAt(random.nextInt(bound)));
+                }
+                strings.add(builder.toString());
+            }
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,72 @@
+package unicash.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ListMirrorTest {
+
+    private final List<Runnable> unpublished = new ArrayList<>();
+    private ObservableList<String> source;
+    private ListMirror<String> listMirror;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        listMirror = new ListMirror<>(source, unpublished::add);
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, listMirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_unpublished_mirrorUnchanged() {
+        source.add("f");
+        source.remove("a");
+        assertEquals(List.of("a", "b", "c", "d", "e"), listMirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_published_mirrorUpdatedInOrder() {
+        source.remove(2);
+        source.addAll(0, List.of("x", "y"));
+        source.set(3, "z");
+        source.removeAll("b", "e");
+        source.sort(Comparator.reverseOrder());
+        source.addAll("p", "q");
+        publish();
+        assertEquals(source, listMirror.getList());
+
+        source.clear();
+        publish();
+        assertEquals(List.of(), listMirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_filteredListRefiltered_mirrorUpdated() {
+        FilteredList<String> filteredList = new FilteredList<>(source);
+        ListMirror<String> filteredMirror = new ListMirror<>(filteredList, unpublished::add);
+
+        filteredList.setPredicate(item -> !item.equals("b") && !item.equals("d"));
+        source.add(1, "x");
+        filteredList.setPredicate(item -> !item.equals("a"));
+        publish();
+        assertEquals(filteredList, filteredMirror.getList());
+    }
+
+    private void publish() {
+        unpublished.forEach(Runnable::run);
+        unpublished.clear();
+    }
+}
@@ -1,6 +1,8 @@
 package unicash.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.logic.UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX;
 import static unicash.logic.UniCashMessages.MESSAGE_UNKNOWN_COMMAND;
 import static unicash.logic.commands.CommandTestUtil.AMOUNT_DESC_NUS;
@@ -19,8 +21,13 @@ import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,16 +35,19 @@ import org.junit.jupiter.api.io.TempDir;
 
 import unicash.commons.core.GuiSettings;
 import unicash.commons.enums.CommandType;
+import unicash.commons.exceptions.DataLoadingException;
 import unicash.logic.commands.CommandResult;
 import unicash.logic.commands.ListCommand;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.DeferredTransactions;
 import unicash.model.Model;
 import unicash.model.ModelManager;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
 import unicash.model.UserPrefs;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 import unicash.storage.JsonUniCashStorage;
 import unicash.storage.JsonUserPrefsStorage;
 import unicash.storage.StorageManager;
@@ -47,6 +57,14 @@ public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
 
+    private static final String ADD_COMMAND = CommandType.ADD_TRANSACTION.getMainCommandWord()
+            + TRANSACTION_NAME_DESC_NUS
+            + CATEGORY_DESC_NUS
+            + AMOUNT_DESC_NUS
+            + DATETIME_DESC_NUS
+            + TYPE_DESC_EXPENSE
+            + LOCATION_DESC_NUS;
+
     @TempDir
     public Path temporaryFolder;
 
@@ -55,11 +73,7 @@ public class LogicManagerTest {
 
     @BeforeEach
     public void setUp() {
-        var uniCashStorage =
-                new JsonUniCashStorage(temporaryFolder.resolve("unicash.json"));
-        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(uniCashStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, getStorage());
     }
 
     @Test
@@ -81,17 +95,162 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithChanges_savedInBackground() throws Exception {
+        Path filePath = temporaryFolder.resolve("unicash.json");
+        logic.execute(ADD_COMMAND);
+        logic.flushSaves();
+
+        assertEquals(model.getUniCash(), new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void execute_afterFailedSave_savesAgain() throws Exception {
+        List<String> failures = new ArrayList<>();
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION));
+        logic.setSaveFailureHandler(failures::add);
+        logic.execute(ADD_COMMAND);
+        logic.flushSaves();
+
+        // The list command changes nothing, but the data has not been saved since the failure
+        logic.execute(CommandType.LIST.getMainCommandWord());
+        logic.flushSaves();
+        assertEquals(2, failures.size());
+    }
+
+    @Test
+    public void execute_saveFailsStraightAway_savesAgain() throws Exception {
+        // The failure is reported on the saving thread, racing against the command which started the save
+        for (int i = 0; i < 20; i++) {
+            List<String> failures = new CopyOnWriteArrayList<>();
+            logic = new LogicManager(new ModelManager(), getStorageThrowing(DUMMY_IO_EXCEPTION));
+            logic.setSaveFailureHandler(failures::add);
+            logic.execute(ADD_COMMAND);
+            logic.flushSaves();
+
+            logic.execute(CommandType.LIST.getMainCommandWord());
+            logic.flushSaves();
+            assertEquals(2, failures.size());
+        }
+    }
+
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION));
+
+        String listCommand = CommandType.LIST.getMainCommandWord();
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandWithChangesWhileLoading_savesAllTransactions() throws Exception {
+        Path filePath = temporaryFolder.resolve("unicash.json");
+        model.loadDeferredTransactions(new DeferredTransactions() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public List<Transaction> load(int fromIndex, int toIndex) {
+                return List.of(INTERN);
+            }
+        }, unused -> { });
+
+        logic.execute(ADD_COMMAND);
+        logic.flushSaves();
+
+        assertEquals(0, model.getDeferredTransactionCount());
+        assertEquals(List.of(INTERN, new TransactionBuilder(NUS).build()),
+                new JsonUniCashStorage(filePath).readUniCash().get().getTransactionList());
+    }
+
+    @Test
+    public void execute_addNearMaxWhileLoading_olderTransactionsSaved() throws Exception {
+        Path filePath = temporaryFolder.resolve("unicash.json");
+        Model smallModel = new ModelManager(new UniCash(), new UserPrefs(), 3);
+        smallModel.addTransaction(INTERN);
+        List<Transaction> older = List.of(new TransactionBuilder(NUS).withName("Older 1").build(),
+                new TransactionBuilder(NUS).withName("Older 2").build());
+        smallModel.loadDeferredTransactions(new DeferredTransactions() {
+            @Override
+            public int size() {
+                return older.size();
+            }
+
+            @Override
+            public List<Transaction> load(int fromIndex, int toIndex) {
+                return older.subList(fromIndex, toIndex);
+            }
+        }, unused -> { });
+        logic = new LogicManager(smallModel, getStorage());
+
+        // The older transactions still being loaded count towards the maximum
+        assertThrows(CommandException.class, TransactionList.getSizeConstraintsMessage(3), () ->
+                logic.execute(ADD_COMMAND));
+        logic.execute(CommandType.DELETE_TRANSACTION.getMainCommandWord() + " 3");
+        logic.flushSaves();
+
+        assertEquals(older, new JsonUniCashStorage(filePath).readUniCash().get().getTransactionList());
+    }
+
+    @Test
+    public void execute_olderTransactionsMissing_notSaved() throws Exception {
+        model.loadDeferredTransactions(new DeferredTransactions() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public List<Transaction> load(int fromIndex, int toIndex) throws DataLoadingException {
+                throw new DataLoadingException(new IOException("dummy"));
+            }
+        }, unused -> { });
+
+        CommandResult result = logic.execute(ADD_COMMAND);
+        logic.flushSaves();
+
+        assertTrue(result.getFeedbackToUser().endsWith(LogicManager.MESSAGE_MISSING_TRANSACTIONS));
+        assertFalse(Files.exists(temporaryFolder.resolve("unicash.json")));
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrder() {
+        CompletableFuture<CommandResult> add = logic.executeAsync(ADD_COMMAND);
+        CompletableFuture<CommandResult> delete = logic.executeAsync("delete_transaction 1");
+        CompletableFuture<CommandResult> invalid = logic.executeAsync("uicfhmowqewca");
+
+        add.join();
+        delete.join();
+        Throwable failure = invalid.handle((result, error) -> error).join();
+        assertTrue(failure.getCause() instanceof ParseException);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void getFilteredTransactionList_changesPublished_updatedByPublisher() throws Exception {
+        List<Runnable> unpublished = new ArrayList<>();
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION), unpublished::add);
+
+        logic.execute(ADD_COMMAND);
+        assertEquals(List.of(), logic.getFilteredTransactionList());
+
+        unpublished.forEach(Runnable::run);
+        assertEquals(model.getFilteredTransactionList(), logic.getFilteredTransactionList());
+    }
+
     @Test
     public void getFilteredTransactionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTransactionList().remove(0));
@@ -194,11 +353,40 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command still succeeds, and the failure is reported to the save failure handler once saved.
      *
      * @param e               the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
+        List<String> failures = new ArrayList<>();
+        logic = new LogicManager(model, getStorageThrowing(e));
+        logic.setSaveFailureHandler(failures::add);
+
+        // Triggers the saveUniCash method by executing an add command
+        logic.execute(ADD_COMMAND);
+        logic.flushSaves();
+
+        Transaction expectedTransaction = new TransactionBuilder(NUS).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addTransaction(expectedTransaction);
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), failures);
+    }
+
+    /**
+     * Returns a {@code StorageManager} which saves to the temporary folder.
+     */
+    private StorageManager getStorage() {
+        JsonUniCashStorage uniCashStorage = new JsonUniCashStorage(temporaryFolder.resolve("unicash.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(uniCashStorage, userPrefsStorage);
+    }
+
+    /**
+     * Returns a {@code StorageManager} with an {@code UniCashStorage} that throws {@code e} when saving.
+     */
+    private StorageManager getStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an UniCashStorage that throws the IOException e when saving
@@ -212,21 +400,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(uniCashStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveUniCash method by executing an add command
-        String addCommand = CommandType.ADD_TRANSACTION.getMainCommandWord()
-                + TRANSACTION_NAME_DESC_NUS
-                + CATEGORY_DESC_NUS
-                + AMOUNT_DESC_NUS
-                + DATETIME_DESC_NUS
-                + TYPE_DESC_EXPENSE
-                + LOCATION_DESC_NUS;
-        Transaction expectedTransaction = new TransactionBuilder(NUS).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addTransaction(expectedTransaction);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(uniCashStorage, userPrefsStorage);
     }
 }
@@ -10,24 +10,30 @@ import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.TransactionType;
 import unicash.logic.UniCashMessages;
 import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.DeferredTransactions;
 import unicash.model.Model;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionSearchIndex;
 import unicash.testutil.TransactionBuilder;
 
 public class AddTransactionCommandTest {
@@ -145,6 +151,11 @@ public class AddTransactionCommandTest {
             return false;
         }
 
+        @Override
+        public int getMaxTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUniCash(ReadOnlyUniCash uniCash) {
             throw new AssertionError("This method should not be called.");
@@ -208,6 +219,47 @@ public class AddTransactionCommandTest {
         public boolean hasExpenses() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end,
+                Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TransactionSearchIndex getTransactionSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadDeferredTransactions(DeferredTransactions deferredTransactions, Executor mergeExecutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getDeferredTransactionCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitDeferredTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isMissingDeferredTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -254,6 +306,11 @@ public class AddTransactionCommandTest {
             return true;
         }
 
+        @Override
+        public int getMaxTransactions() {
+            return 1;
+        }
+
         @Override
         public void addTransaction(Transaction transaction) {
         }
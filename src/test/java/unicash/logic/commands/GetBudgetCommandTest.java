@@ -52,7 +52,7 @@ public class GetBudgetCommandTest {
         model.addTransaction(new TransactionBuilder(NUS).withType("expense").withDateTime(now).build());
         model.addTransaction(new TransactionBuilder(INTERN).withType("income").withDateTime(now).build());
 
-        var expectedRemainder = DAILY.getAmount().amount - NUS.getAmount().amount;
+        var expectedRemainder = DAILY.getAmount().toDouble() - NUS.getAmount().toDouble();
 
         var command = new GetBudgetCommand();
         assertCommandSuccess(
@@ -84,7 +84,7 @@ public class GetBudgetCommandTest {
                         GetBudgetCommand.MESSAGE_SUCCESS,
                         "Daily",
                         DAILY.getAmount().toString(),
-                        DAILY.getAmount().amount
+                        DAILY.getAmount().toDouble()
                 ),
                 model
         );
@@ -107,9 +107,9 @@ public class GetBudgetCommandTest {
 
         var command = new GetBudgetCommand();
         var expectedRemainder =
-                DAILY.getAmount().amount
-                        - NUS.getAmount().amount
-                        - INTERN.getAmount().amount;
+                DAILY.getAmount().toDouble()
+                        - NUS.getAmount().toDouble()
+                        - INTERN.getAmount().toDouble();
         assertCommandSuccess(
                 command,
                 model,
@@ -143,7 +143,7 @@ public class GetBudgetCommandTest {
         }
 
         var command = new GetBudgetCommand(today);
-        var expectedRemainder = WEEKLY.getAmount().amount - (7 * NUS.getAmount().amount);
+        var expectedRemainder = WEEKLY.getAmount().toDouble() - (7 * NUS.getAmount().toDouble());
         assertCommandSuccess(
                 command,
                 model,
@@ -198,9 +198,9 @@ public class GetBudgetCommandTest {
 
         var command = new GetBudgetCommand(today);
         var expectedRemainder =
-                MONTHLY.getAmount().amount
-                        - NUS.getAmount().amount
-                        - INTERN.getAmount().amount;
+                MONTHLY.getAmount().toDouble()
+                        - NUS.getAmount().toDouble()
+                        - INTERN.getAmount().toDouble();
         assertCommandSuccess(
                 command,
                 model,
@@ -214,6 +214,35 @@ public class GetBudgetCommandTest {
         );
     }
 
+    @Test
+    public void execute_sameMonthOfPreviousYear_excludedFromRemainder() {
+        var uniCash = new UniCash();
+        var model = new ModelManager(uniCash, new UserPrefs());
+        model.setBudget(new Budget(MONTHLY));
+
+        Clock clock = Clock.fixed(Instant.parse("2023-11-01T10:15:30.00Z"), ZoneId.of("UTC"));
+        var today = LocalDateTime.now(clock);
+
+        model.addTransaction(
+                new TransactionBuilder(NUS)
+                        .withDateTime(localDateTimeToString(today.minusYears(1)))
+                        .build()
+        );
+
+        var command = new GetBudgetCommand(today);
+        assertCommandSuccess(
+                command,
+                model,
+                String.format(
+                        GetBudgetCommand.MESSAGE_SUCCESS,
+                        "Monthly",
+                        MONTHLY.getAmount().toString(),
+                        MONTHLY.getAmount().toDouble()
+                ),
+                model
+        );
+    }
+
     @Test
     public void equals_nullOther_returnsFalse() {
         assertNotEquals(new GetBudgetCommand(), null);
@@ -74,6 +74,20 @@ public class GetTotalExpenditureCommandTest {
         }
     }
 
+    @Test
+    public void execute_matchingTransactionEditedAfterwards_remainsInFilteredList() throws CommandException {
+        var model = getModel();
+        var expense = new TransactionBuilder().withType("expense").build();
+        model.addTransaction(expense);
+        new GetTotalExpenditureCommand(8, 2001, null).execute(model);
+
+        var editedExpense = new TransactionBuilder(expense).withName("Edited").build().withId(expense.getId());
+        model.setTransaction(expense, editedExpense);
+
+        assertEquals(1, model.getFilteredTransactionList().size());
+        assertEquals(editedExpense, model.getFilteredTransactionList().get(0));
+    }
+
     @Test
     public void execute_multipleMonthsOnly_filtersOnlySelectedMonths() throws CommandException {
         var model = getModel();
@@ -137,8 +151,7 @@ public class GetTotalExpenditureCommandTest {
         assertEquals(2, filteredResult.size());
         for (var result : filteredResult) {
             assertEquals(TransactionType.EXPENSE, result.getType().type);
-            assertTrue(result.getCategories().asUnmodifiableObservableList()
-                    .stream().anyMatch(cat -> cat.equals(new Category("Food"))));
+            assertTrue(result.getCategories().contains(new Category("Food")));
         }
     }
 
@@ -154,8 +167,7 @@ public class GetTotalExpenditureCommandTest {
         assertEquals(1, filteredResult.size());
         for (var result : filteredResult) {
             assertEquals(TransactionType.EXPENSE, result.getType().type);
-            assertTrue(result.getCategories().asUnmodifiableObservableList()
-                    .stream().anyMatch(cat -> cat.equals(new Category("Food"))));
+            assertTrue(result.getCategories().contains(new Category("Food")));
             assertEquals(8, result.getDateTime().getDateTime().getMonthValue());
         }
     }
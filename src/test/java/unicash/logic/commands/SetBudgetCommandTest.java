@@ -11,21 +11,28 @@ import static unicash.testutil.TypicalBudgets.MONTHLY;
 import static unicash.testutil.TypicalBudgets.WEEKLY;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.TransactionType;
 import unicash.logic.UniCashMessages;
+import unicash.model.DeferredTransactions;
 import unicash.model.Model;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionSearchIndex;
 
 public class SetBudgetCommandTest {
     @Test
@@ -155,6 +162,11 @@ public class SetBudgetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getMaxTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteTransaction(Transaction target) {
             throw new AssertionError("This method should not be called.");
@@ -204,6 +216,47 @@ public class SetBudgetCommandTest {
         public boolean hasExpenses() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTotalAmountCents(TransactionType type, LocalDateTime start, LocalDateTime end,
+                Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TransactionSearchIndex getTransactionSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadDeferredTransactions(DeferredTransactions deferredTransactions, Executor mergeExecutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getDeferredTransactionCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitDeferredTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isMissingDeferredTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubAcceptingBudgetAdded extends SetBudgetCommandTest.ModelStub {
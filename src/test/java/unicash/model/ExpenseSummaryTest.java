@@ -0,0 +1,116 @@
+package unicash.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.testutil.TransactionBuilder;
+
+public class ExpenseSummaryTest {
+
+    private TransactionList transactionList;
+    private ExpenseSummary expenseSummary;
+
+    @BeforeEach
+    public void setUp() {
+        transactionList = new TransactionList();
+        expenseSummary = new ExpenseSummary(transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExpenseSummary(null));
+    }
+
+    @Test
+    public void constructor_existingTransactions_summarised() {
+        transactionList.add(NUS);
+        ExpenseSummary summary = new ExpenseSummary(transactionList.asUnmodifiableObservableList());
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("ta", 888.8);
+        assertEquals(expectedPerCategory, summary.getSumPerCategory());
+    }
+
+    @Test
+    public void add_incomeOnly_noExpenses() {
+        transactionList.add(SHOPPING);
+        assertFalse(expenseSummary.hasExpenses());
+        assertTrue(expenseSummary.getSumPerCategory().isEmpty());
+        assertTrue(expenseSummary.getSumPerYearMonth().isEmpty());
+    }
+
+    @Test
+    public void add_expenses_totalsUpdated() {
+        transactionList.add(NUS);
+        transactionList.add(INTERN);
+        transactionList.add(NUS);
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("ta", 1777.6);
+        expectedPerCategory.put("food", 8.8);
+        assertEquals(expectedPerCategory, expenseSummary.getSumPerCategory());
+
+        HashMap<YearMonth, Double> expectedPerYearMonth = new HashMap<>();
+        expectedPerYearMonth.put(YearMonth.of(2021, 12), 1777.6);
+        expectedPerYearMonth.put(YearMonth.of(2008, 8), 8.8);
+        assertEquals(expectedPerYearMonth, expenseSummary.getSumPerYearMonth());
+        assertTrue(expenseSummary.hasExpenses());
+    }
+
+    @Test
+    public void setTransaction_expenseEdited_totalsMoved() {
+        transactionList.add(NUS);
+        Transaction editedNus = new TransactionBuilder(NUS)
+                .withAmount(10.1)
+                .withDateTime("01-01-2022 00:00")
+                .withCategories()
+                .build();
+        transactionList.setTransaction(NUS, editedNus);
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put(ExpenseSummary.UNCATEGORIZED, 10.1);
+        assertEquals(expectedPerCategory, expenseSummary.getSumPerCategory());
+
+        HashMap<YearMonth, Double> expectedPerYearMonth = new HashMap<>();
+        expectedPerYearMonth.put(YearMonth.of(2022, 1), 10.1);
+        assertEquals(expectedPerYearMonth, expenseSummary.getSumPerYearMonth());
+    }
+
+    @Test
+    public void remove_lastExpense_keysRemoved() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.remove(NUS);
+
+        assertFalse(expenseSummary.hasExpenses());
+        assertTrue(expenseSummary.getSumPerCategory().isEmpty());
+        assertTrue(expenseSummary.getSumPerYearMonth().isEmpty());
+    }
+
+    @Test
+    public void setTransactions_replacement_totalsReset() {
+        transactionList.add(NUS);
+        transactionList.setTransactions(List.of(INTERN));
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("food", 8.8);
+        assertEquals(expectedPerCategory, expenseSummary.getSumPerCategory());
+
+        transactionList.setTransactions(List.of());
+        assertFalse(expenseSummary.hasExpenses());
+    }
+}
@@ -0,0 +1,146 @@
+package unicash.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.TransactionSearchIndex;
+import unicash.storage.BinaryUniCashStorage;
+import unicash.storage.JsonUniCashStorage;
+import unicash.testutil.TransactionBuilder;
+
+/**
+ * Reports the latency of common operations on a UniCash holding a million transactions.
+ *
+ * </p> Benchmarks are not run by the {@code test} task. Run them with {@code gradlew benchmark},
+ * which prints the median latency of each operation.
+ */
+public class LargeUniCashBenchmark {
+
+    private static final int TRANSACTION_COUNT = 1000000;
+    private static final int REPETITIONS = 21;
+    private static final int VALIDATION_COUNT = 100000;
+    private static final String[] CATEGORIES = {"food", "transport", "rent", "social", "shopping", "salary"};
+    private static final String[] LOCATIONS = {"NUS", "Jurong Point", "VivoCity", "Changi Airport", "Home"};
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm");
+
+    @TempDir
+    public Path testFolder;
+
+    private UniCash uniCash;
+
+    @BeforeEach
+    public void setUp() {
+        uniCash = new UniCash(TransactionList.MAX_TRANSACTIONS_LIMIT);
+        uniCash.setTransactions(getTransactions(TRANSACTION_COUNT));
+    }
+
+    /**
+     * Times each operation on the transactions built in {@link #setUp()}, then saves and loads them.
+     */
+    @Test
+    public void run() throws Exception {
+        List<Transaction> toAdd = getTransactions(REPETITIONS);
+        int[] added = {0};
+        report("add", () -> uniCash.addTransaction(toAdd.get(added[0]++)));
+        report("find by name", () -> uniCash.getTransactionSearchIndex()
+                .search(TransactionSearchIndex.Field.NAME, "lunch 4242"));
+        report("summary per category", () -> uniCash.getSumOfExpensePerCategory());
+        LocalDateTime monthStart = LocalDateTime.of(2020, 6, 1, 0, 0);
+        report("total expenditure in a month", () -> uniCash.getTotalAmountCents(TransactionType.EXPENSE,
+                monthStart, monthStart.plusMonths(1), new Category("food")));
+
+        // Compares the validation done for every name loaded against the regex it replaced
+        List<String> names = new ArrayList<>(VALIDATION_COUNT);
+        for (int i = 0; i < VALIDATION_COUNT; i++) {
+            names.add(uniCash.getTransactionList().get(i).getName().fullName);
+        }
+        report("validate names", () -> assertEquals(VALIDATION_COUNT, countValid(names, Name::isValidName)));
+        report("validate names by regex", () -> assertEquals(VALIDATION_COUNT,
+                countValid(names, name -> name.matches(Name.VALIDATION_REGEX))));
+
+        JsonUniCashStorage jsonStorage = new JsonUniCashStorage(testFolder.resolve("unicash.json"));
+        BinaryUniCashStorage binaryStorage = new BinaryUniCashStorage(testFolder.resolve("unicash.bin"));
+        report("save as json", 3, () -> jsonStorage.saveUniCash(uniCash));
+        report("save as binary", 3, () -> binaryStorage.saveUniCash(uniCash));
+        assertEquals(TRANSACTION_COUNT + REPETITIONS, uniCash.getTransactionList().size());
+
+        // Only one copy of the data fits comfortably in the heap, so the data in memory is dropped first
+        uniCash.resetData(new UniCash());
+        report("load from binary", 3, () -> {
+            uniCash.resetData(new UniCash());
+            uniCash.resetData(binaryStorage.readUniCash().orElseThrow());
+        });
+        assertEquals(TRANSACTION_COUNT + REPETITIONS, uniCash.getTransactionList().size());
+    }
+
+    /**
+     * Returns {@code count} transactions spread over ten years, with a few shared categories and locations.
+     */
+    private static List<Transaction> getTransactions(int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2015, 1, 1, 0, 0);
+        for (int i = 0; i < count; i++) {
+            transactions.add(new TransactionBuilder()
+                    .withName("Lunch " + i)
+                    .withType(i % 10 == 0 ? "income" : "expense")
+                    .withAmount(i % 10000 / 100.0)
+                    .withDateTime(start.plusMinutes(i * 5L).format(DATETIME_FORMATTER))
+                    .withLocation(LOCATIONS[i % LOCATIONS.length])
+                    .withCategories(CATEGORIES[i % CATEGORIES.length])
+                    .build());
+        }
+        return transactions;
+    }
+
+    private static int countValid(List<String> values, Predicate<String> validator) {
+        int validCount = 0;
+        for (String value : values) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    private static void report(String operation, Operation toTime) throws Exception {
+        report(operation, REPETITIONS, toTime);
+    }
+
+    /**
+     * Prints the median time taken by {@code repetitions} runs of {@code toTime}.
+     */
+    private static void report(String operation, int repetitions, Operation toTime) throws Exception {
+        long[] nanos = new long[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            long start = System.nanoTime();
+            toTime.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-30s %10.3f ms%n", operation, nanos[repetitions / 2] / 1e6);
+    }
+
+    /**
+     * An operation whose latency is measured.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+}
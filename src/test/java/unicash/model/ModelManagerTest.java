@@ -12,25 +12,126 @@ import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import unicash.commons.core.GuiSettings;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
 import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 import unicash.model.transaction.predicates.TransactionNameContainsKeywordsPredicate;
+import unicash.testutil.TransactionBuilder;
 import unicash.testutil.UniCashBuilder;
 
 public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
 
+    /**
+     * A {@code DeferredTransactions} over transactions which are already loaded.
+     */
+    private static class ListDeferredTransactions implements DeferredTransactions {
+        private final List<Transaction> transactions;
+
+        ListDeferredTransactions(List<Transaction> transactions) {
+            this.transactions = transactions;
+        }
+
+        @Override
+        public int size() {
+            return transactions.size();
+        }
+
+        @Override
+        public List<Transaction> load(int fromIndex, int toIndex) {
+            return new ArrayList<>(transactions.subList(fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    public void loadDeferredTransactions_mergedInBatches_olderTransactionsInFront() {
+        List<Transaction> older = new ArrayList<>();
+        for (int i = 0; i < DeferredTransactionLoader.BATCH_SIZE + 1; i++) {
+            older.add(new TransactionBuilder(NUS).withName("Older " + i).build());
+        }
+        modelManager.addTransaction(INTERN);
+        long modificationCount = modelManager.getModificationCount();
+
+        // Batches are only merged when the merge executor runs them
+        List<Runnable> pendingMerges = Collections.synchronizedList(new ArrayList<>());
+        modelManager.loadDeferredTransactions(new ListDeferredTransactions(older), pendingMerges::add);
+        assertEquals(older.size(), modelManager.getDeferredTransactionCount());
+        assertEquals(List.of(INTERN), modelManager.getFilteredTransactionList());
+
+        modelManager.awaitDeferredTransactions();
+        List<Transaction> expected = new ArrayList<>(older);
+        expected.add(INTERN);
+        assertEquals(expected, modelManager.getFilteredTransactionList());
+        assertEquals(0, modelManager.getDeferredTransactionCount());
+        assertFalse(modelManager.isMissingDeferredTransactions());
+        assertEquals(modificationCount, modelManager.getModificationCount());
+
+        // Merges scheduled earlier find nothing left to merge
+        new ArrayList<>(pendingMerges).forEach(Runnable::run);
+        assertEquals(expected, modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void loadDeferredTransactions_thenSetUniCash_deferredTransactionsDiscarded() {
+        modelManager.loadDeferredTransactions(new ListDeferredTransactions(List.of(NUS)), unused -> { });
+        modelManager.setUniCash(new UniCash());
+        modelManager.awaitDeferredTransactions();
+
+        assertEquals(0, modelManager.getDeferredTransactionCount());
+        assertEquals(new UniCash(), new UniCash(modelManager.getUniCash()));
+    }
+
+    @Test
+    public void loadDeferredTransactions_loadingFails_missingTransactionsCounted() {
+        modelManager.addTransaction(INTERN);
+        modelManager.loadDeferredTransactions(new DeferredTransactions() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public List<Transaction> load(int fromIndex, int toIndex) throws DataLoadingException {
+                throw new DataLoadingException(new IllegalValueException("dummy"));
+            }
+        }, unused -> { });
+        modelManager.awaitDeferredTransactions();
+
+        assertEquals(1, modelManager.getDeferredTransactionCount());
+        assertTrue(modelManager.isMissingDeferredTransactions());
+        assertEquals(List.of(INTERN), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void loadDeferredTransactions_olderTransactionsDoNotFit_missingTransactionsCounted() {
+        ModelManager smallModelManager = new ModelManager(new UniCash(), new UserPrefs(), 2);
+        smallModelManager.addTransaction(INTERN);
+        smallModelManager.loadDeferredTransactions(new ListDeferredTransactions(List.of(NUS, BUYING_GROCERIES)),
+                unused -> { });
+        smallModelManager.awaitDeferredTransactions();
+
+        assertEquals(2, smallModelManager.getDeferredTransactionCount());
+        assertTrue(smallModelManager.isMissingDeferredTransactions());
+        assertEquals(List.of(INTERN), smallModelManager.getFilteredTransactionList());
+    }
+
     @Test
     public void constructor() {
         assertEquals(new UserPrefs(), modelManager.getUserPrefs());
@@ -110,6 +211,19 @@ public class ModelManagerTest {
         assertTrue(modelManager.isFull());
     }
 
+    @Test
+    public void isFull_maxTransactionsGiven_fullAtMax() {
+        ModelManager smallModelManager = new ModelManager(new UniCash(), new UserPrefs(), 1);
+        assertEquals(1, smallModelManager.getMaxTransactions());
+        smallModelManager.addTransaction(NUS);
+        assertTrue(smallModelManager.isFull());
+
+        // the maximum is kept when the data is replaced
+        smallModelManager.setUniCash(new UniCash());
+        assertThrows(MaxTransactionException.class, () -> smallModelManager.setUniCash(getTypicalUniCash()));
+        assertFalse(modelManager.isFull());
+    }
+
     @Test
     public void isFull_notMaxUnICash_returnsFalse() {
         assertFalse(modelManager.isFull());
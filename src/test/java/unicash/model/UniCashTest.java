@@ -55,6 +55,79 @@ public class UniCashTest {
         assertEquals(Collections.emptyList(), uniCash.getTransactionList());
     }
 
+    @Test
+    public void getModificationCount_afterEachMutation_increases() {
+        UniCash uniCash = new UniCash();
+        long count = uniCash.getModificationCount();
+
+        uniCash.addTransaction(NUS);
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        uniCash.setTransaction(NUS, INTERN);
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        uniCash.removeTransaction(INTERN);
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        uniCash.setBudget(MONTHLY);
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        uniCash.clearBudget();
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        uniCash.resetData(getTypicalUniCash());
+        assertTrue(uniCash.getModificationCount() > count);
+        count = uniCash.getModificationCount();
+
+        // reading does not count as a change
+        uniCash.hasTransaction(NUS);
+        uniCash.getSumOfExpensePerCategory();
+        assertEquals(count, uniCash.getModificationCount());
+    }
+
+    @Test
+    public void getChangesSince_transactionsAndBudgetChanged_changesInOrder() {
+        UniCash uniCash = new UniCash();
+        uniCash.addTransaction(NUS);
+        long count = uniCash.getChangeCount();
+
+        Transaction editedNus = new TransactionBuilder(NUS).withName("Edited").build().withId(NUS.getId());
+        uniCash.setTransaction(NUS, editedNus);
+        uniCash.addTransaction(INTERN);
+        uniCash.removeTransaction(editedNus);
+        uniCash.setBudget(MONTHLY);
+
+        List<UniCash.Change> changes = uniCash.getChangesSince(count);
+        assertEquals(4, changes.size());
+        assertEquals(UniCash.Change.Kind.SET, changes.get(0).kind);
+        assertEquals(editedNus, changes.get(0).transaction);
+        assertEquals(UniCash.Change.Kind.ADD, changes.get(1).kind);
+        assertEquals(INTERN, changes.get(1).transaction);
+        assertEquals(UniCash.Change.Kind.REMOVE, changes.get(2).kind);
+        assertEquals(editedNus, changes.get(2).transaction);
+        assertEquals(UniCash.Change.Kind.BUDGET, changes.get(3).kind);
+        assertEquals(MONTHLY, changes.get(3).budget);
+        assertEquals(Collections.emptyList(), uniCash.getChangesSince(uniCash.getChangeCount()));
+    }
+
+    @Test
+    public void getChangesSince_transactionsReplacedOrRestored_changesForgotten() {
+        UniCash uniCash = new UniCash();
+        uniCash.addTransaction(NUS);
+        long count = uniCash.getChangeCount();
+        uniCash.setTransactions(List.of(INTERN, NUS));
+        assertNull(uniCash.getChangesSince(count));
+
+        count = uniCash.getChangeCount();
+        uniCash.addOlderTransactions(List.of(SHOPPING));
+        assertNull(uniCash.getChangesSince(count));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniCash.resetData(null));
@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 import unicash.commons.core.GuiSettings;
+import unicash.commons.enums.StorageFormat;
 
 public class UserPrefsTest {
 
@@ -26,6 +27,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setUniCashFilePath(null));
     }
 
+    @Test
+    public void setUniCashStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setUniCashStorageFormat(null));
+    }
+
     @Test
     public void equals() {
         var userPrefs = new UserPrefs();
@@ -40,6 +47,10 @@ public class UserPrefsTest {
         var changedUniCashFilePath = new UserPrefs();
         changedUniCashFilePath.setUniCashFilePath(Path.of("invalid_path"));
         assertNotEquals(changedUniCashFilePath, userPrefs);
+
+        var changedUniCashStorageFormat = new UserPrefs();
+        changedUniCashStorageFormat.setUniCashStorageFormat(StorageFormat.JOURNAL);
+        assertNotEquals(changedUniCashStorageFormat, userPrefs);
     }
 
     @Test
@@ -58,7 +69,8 @@ public class UserPrefsTest {
         var uniCashFilePath = Paths.get("data", "unicash.json");
         var userPrefs = new UserPrefs();
         assertEquals(
-                String.format("Gui Settings : %s\nLocal data file location : %s", guiSettings, uniCashFilePath),
+                String.format("Gui Settings : %s\nLocal data file location : %s\nLocal data file format : %s",
+                        guiSettings, uniCashFilePath, StorageFormat.JSON),
                 userPrefs.toString()
         );
     }
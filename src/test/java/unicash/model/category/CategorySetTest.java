@@ -0,0 +1,98 @@
+package unicash.model.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalCategories.EDUCATION;
+import static unicash.testutil.TypicalCategories.ENTERTAINMENT;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.category.exceptions.DuplicateCategoryException;
+import unicash.model.category.exceptions.MaxCategoryException;
+
+public class CategorySetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CategorySet.of((List<Category>) null));
+        assertThrows(NullPointerException.class, () -> CategorySet.of((UniqueCategoryList) null));
+    }
+
+    @Test
+    public void of_duplicate_throwsDuplicateCategoryException() {
+        assertThrows(DuplicateCategoryException.class, () -> CategorySet.of(List.of(EDUCATION, EDUCATION)));
+    }
+
+    @Test
+    public void of_moreThanMax_throwsMaxCategoryException() {
+        List<Category> categories = List.of(new Category("a"), new Category("b"), new Category("c"),
+                new Category("d"), new Category("e"), new Category("f"));
+        assertThrows(MaxCategoryException.class, () -> CategorySet.of(categories));
+    }
+
+    @Test
+    public void of_emptyList_returnsEmpty() {
+        assertSame(CategorySet.EMPTY, CategorySet.of(List.of()));
+        assertSame(CategorySet.EMPTY, CategorySet.of(new UniqueCategoryList()));
+        assertTrue(CategorySet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_categories_internedInOrder() {
+        CategorySet categorySet = CategorySet.of(List.of(new Category("Education"), new Category("Entertainment")));
+        assertEquals(List.of(EDUCATION, ENTERTAINMENT), categorySet.asList());
+        assertSame(EDUCATION.intern(), categorySet.asList().get(0));
+        assertEquals(2, categorySet.getSize());
+    }
+
+    @Test
+    public void contains() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION));
+        assertThrows(NullPointerException.class, () -> categorySet.contains(null));
+        assertTrue(categorySet.contains(new Category("education")));
+        assertFalse(categorySet.contains(ENTERTAINMENT));
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                CategorySet.of(List.of(EDUCATION)).asList().add(ENTERTAINMENT));
+    }
+
+    @Test
+    public void toUniqueCategoryList_modify_setUnchanged() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION));
+        UniqueCategoryList categoryList = categorySet.toUniqueCategoryList();
+        assertEquals(new UniqueCategoryList(List.of(EDUCATION)), categoryList);
+
+        categoryList.add(ENTERTAINMENT);
+        assertEquals(List.of(EDUCATION), categorySet.asList());
+    }
+
+    @Test
+    public void equals() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION, ENTERTAINMENT));
+
+        // same categories in any order -> returns true
+        assertTrue(categorySet.equals(categorySet));
+        assertTrue(categorySet.equals(CategorySet.of(List.of(ENTERTAINMENT, EDUCATION))));
+        assertEquals(categorySet.hashCode(), CategorySet.of(List.of(ENTERTAINMENT, EDUCATION)).hashCode());
+
+        // different values -> returns false
+        assertFalse(categorySet.equals(null));
+        assertFalse(categorySet.equals(5));
+        assertFalse(categorySet.equals(CategorySet.of(List.of(EDUCATION))));
+        assertNotEquals(CategorySet.EMPTY, categorySet);
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("[education, entertainment]", CategorySet.of(List.of(EDUCATION, ENTERTAINMENT)).toString());
+    }
+}
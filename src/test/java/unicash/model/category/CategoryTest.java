@@ -17,6 +17,13 @@ public class CategoryTest {
         assertThrows(NullPointerException.class, () -> new Category(null));
     }
 
+    @Test
+    public void ofValidated_validCategoryName_formattedToLowerCase() {
+        assertThrows(NullPointerException.class, () -> Category.ofValidated(null));
+        assertEquals(new Category("Household"), Category.ofValidated("Household"));
+        assertEquals("household", Category.ofValidated("HOUSEhold").category);
+    }
+
     @Test
     public void constructor_invalidCategoryName_throwsIllegalArgumentException() {
         String invalidCategoryName = "";
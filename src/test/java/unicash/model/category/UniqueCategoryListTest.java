@@ -350,4 +350,12 @@ public class UniqueCategoryListTest {
         assertEquals(categoryList1.hashCode(), categoryList2.hashCode());
         assertNotEquals(categoryList1.hashCode(), categoryList3.hashCode());
     }
+
+    @Test
+    public void hashCode_sameCategoriesDifferentOrder_sameHashCode() {
+        UniqueCategoryList categoryList1 = new UniqueCategoryList(List.of(EDUCATION, ENTERTAINMENT));
+        UniqueCategoryList categoryList2 = new UniqueCategoryList(List.of(ENTERTAINMENT, EDUCATION));
+        assertEquals(categoryList1, categoryList2);
+        assertEquals(categoryList1.hashCode(), categoryList2.hashCode());
+    }
 }
@@ -130,7 +130,7 @@ public class AmountTest {
     public void equals() {
         Amount amount = new Amount(12.13);
         Amount roundedAmount = new Amount(12.1315);
-        assertEquals(12.13, amount.amount);
+        assertEquals(1213, amount.cents);
         assertEquals(amount, amount);
         assertEquals(amount, new Amount(12.13));
         assertEquals(amount, roundedAmount);
@@ -152,6 +152,41 @@ public class AmountTest {
         assertEquals("45.57", Amount.amountToDecimalString(amount));
     }
 
+    @Test
+    public void ofCents_validCents_returnsAmount() {
+        assertEquals(new Amount(12.13), Amount.ofCents(1213));
+        assertEquals(new Amount(0), Amount.ofCents(0));
+        assertEquals(new Amount(Integer.MAX_VALUE), Amount.ofCents((long) Integer.MAX_VALUE * 100));
+    }
+
+    @Test
+    public void ofCents_invalidCents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents(-1));
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents((long) Integer.MAX_VALUE * 100 + 1));
+    }
+
+    @Test
+    public void centsToDecimalString() {
+        assertEquals("0.00", Amount.centsToDecimalString(0));
+        assertEquals("0.05", Amount.centsToDecimalString(5));
+        assertEquals("12.30", Amount.centsToDecimalString(1230));
+        assertEquals("-1.05", Amount.centsToDecimalString(-105));
+    }
+
+    @Test
+    public void toDouble() {
+        assertEquals(12.13, new Amount("$12.13").toDouble());
+    }
+
+    @Test
+    public void cents_summedAmounts_exact() {
+        long totalCents = 0;
+        for (int i = 0; i < 10; i++) {
+            totalCents += new Amount(0.1).cents;
+        }
+        assertEquals(new Amount(1).cents, totalCents);
+    }
+
     @Test
     public void amountString() {
         var amount = new Amount(14.47);
@@ -9,8 +9,10 @@ import static unicash.testutil.Assert.assertThrows;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +27,26 @@ public class DateTimeTest {
         assertThrows(NullPointerException.class, () -> new DateTime(null, null));
     }
 
+    @Test
+    public void of_localDateTime_truncatedToMinute() {
+        assertThrows(NullPointerException.class, () -> DateTime.of(null));
+
+        DateTime dateTime = DateTime.of(LocalDateTime.of(2014, 12, 21, 10, 15, 30));
+        assertEquals(new DateTime("21-12-2014 10:15"), dateTime);
+        assertEquals("21 Dec 2014 10:15", dateTime.inputString());
+        assertTrue(DateTime.isValidDateTime(dateTime.inputString()));
+    }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> DateTime.parse(null));
+
+        assertEquals(Optional.empty(), DateTime.parse(""));
+        assertEquals(Optional.empty(), DateTime.parse("31-02-2001 18:18"));
+        assertEquals(Optional.of(new DateTime("2001-01-01 18:18")), DateTime.parse("2001-01-01 18:18"));
+        assertEquals("01 Jan 2001 18:18", DateTime.parse("01 Jan 2001 18:18").get().inputString());
+    }
+
     @Test
     public void constructor_noDateTime_setDefault() {
         String empty = "";
@@ -34,6 +34,12 @@ public class NameTest {
         assertThrows(NullPointerException.class, () -> new Name(null));
     }
 
+    @Test
+    public void ofValidated_validName_equalsConstructedName() {
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+        assertEquals(new Name("Lunch at (Deck)"), Name.ofValidated("Lunch at (Deck)"));
+    }
+
     @Test
     public void constructor_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
@@ -0,0 +1,62 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TransactionIdTest {
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionId(0));
+        assertThrows(IllegalArgumentException.class, () -> new TransactionId(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(TransactionId.isValidId(-1));
+        assertFalse(TransactionId.isValidId(0));
+        assertTrue(TransactionId.isValidId(1));
+        assertTrue(TransactionId.isValidId(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void generate_afterExplicitId_returnsLargerId() {
+        TransactionId explicit = new TransactionId(TransactionId.generate().id + 1000);
+        assertTrue(TransactionId.generate().id > explicit.id);
+    }
+
+    @Test
+    public void equals() {
+        TransactionId id = new TransactionId(42);
+
+        // same values -> returns true
+        assertEquals(id, new TransactionId(42));
+
+        // same object -> returns true
+        assertEquals(id, id);
+
+        // null -> returns false
+        assertNotEquals(null, id);
+
+        // different types -> returns false
+        assertNotEquals(42, id);
+
+        // different values -> returns false
+        assertNotEquals(id, new TransactionId(43));
+    }
+
+    @Test
+    public void hashCode_sameId_sameHashCode() {
+        assertEquals(new TransactionId(42).hashCode(), new TransactionId(42).hashCode());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("42", new TransactionId(42).toString());
+    }
+}
@@ -14,6 +14,7 @@ import static unicash.testutil.TypicalTransactions.SHOPPING;
 import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
 import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -22,6 +23,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.testutil.TransactionBuilder;
@@ -61,6 +64,25 @@ public class TransactionListTest {
         assertFalse(transactionList.contains(editedNus));
     }
 
+    @Test
+    public void contains_afterEditAndRemove_reflectsCurrentTransactions() {
+        transactionList.add(NUS);
+        transactionList.add(NUS);
+        transactionList.remove(NUS);
+        assertTrue(transactionList.contains(NUS));
+
+        Transaction remainingNus = transactionList.asUnmodifiableObservableList().get(0);
+        transactionList.setTransaction(remainingNus, SHOPPING);
+        assertFalse(transactionList.contains(NUS));
+        assertTrue(transactionList.contains(SHOPPING));
+    }
+
+    @Test
+    public void contains_categoriesInDifferentOrder_returnsTrue() {
+        transactionList.add(new TransactionBuilder(NUS).withCategories("food", "school").build());
+        assertTrue(transactionList.contains(new TransactionBuilder(NUS).withCategories("school", "food").build()));
+    }
+
     @Test
     public void add_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.add(null));
@@ -112,6 +134,27 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void setTransaction_duplicateTransactions_replacesOnlyTarget() {
+        transactionList.add(NUS);
+        transactionList.add(NUS);
+        Transaction secondNus = transactionList.asUnmodifiableObservableList().get(1);
+        transactionList.setTransaction(secondNus, BUYING_GROCERIES);
+        TransactionList expectedTransactionList = new TransactionList();
+        expectedTransactionList.add(NUS);
+        expectedTransactionList.add(BUYING_GROCERIES);
+        assertEquals(expectedTransactionList, transactionList);
+    }
+
+    @Test
+    public void setTransaction_editedTransactionWithTargetId_retainsId() {
+        transactionList.add(NUS);
+        Transaction editedNus = new TransactionBuilder(NUS).withAmount(VALID_AMOUNT_INTERN).build()
+                .withId(NUS.getId());
+        transactionList.setTransaction(NUS, editedNus);
+        assertEquals(NUS.getId(), transactionList.asUnmodifiableObservableList().get(0).getId());
+    }
+
     @Test
     public void remove_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.remove(null));
@@ -130,6 +173,147 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void remove_earlierTransaction_laterTransactionsStillFound() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        transactionList.remove(NUS);
+        transactionList.remove(INTERN);
+        transactionList.setTransaction(SHOPPING, BUYING_GROCERIES);
+        TransactionList expectedTransactionList = new TransactionList();
+        expectedTransactionList.add(BUYING_GROCERIES);
+        assertEquals(expectedTransactionList, transactionList);
+    }
+
+    @Test
+    public void add_duplicateTransaction_storedUnderDistinctIds() {
+        transactionList.add(NUS);
+        transactionList.add(NUS);
+        List<Transaction> stored = transactionList.asUnmodifiableObservableList();
+        assertNotEquals(stored.get(0).getId(), stored.get(1).getId());
+        assertEquals(stored.get(0), stored.get(1));
+    }
+
+    @Test
+    public void getTransactionsBetween_mixedDates_returnsChronologicalSlice() {
+        Transaction early = new TransactionBuilder(NUS).withDateTime("01-01-2023 00:00").build();
+        Transaction middle = new TransactionBuilder(INTERN).withDateTime("15-01-2023 12:00").build();
+        Transaction sameTime = new TransactionBuilder(SHOPPING).withDateTime("15-01-2023 12:00").build();
+        Transaction late = new TransactionBuilder(NUS).withDateTime("01-02-2023 00:00").build();
+        transactionList.add(late);
+        transactionList.add(middle);
+        transactionList.add(early);
+        transactionList.add(sameTime);
+
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 2, 1, 0, 0);
+
+        // start is inclusive, end is exclusive
+        assertEquals(List.of(early, middle, sameTime), transactionList.getTransactionsBetween(start, end));
+
+        // empty and reversed ranges
+        assertEquals(List.of(), transactionList.getTransactionsBetween(start, start));
+        assertEquals(List.of(), transactionList.getTransactionsBetween(end, start));
+    }
+
+    @Test
+    public void getTransactionsBetween_afterEditAndRemove_reflectsCurrentTransactions() {
+        Transaction january = new TransactionBuilder(NUS).withDateTime("01-01-2023 00:00").build();
+        Transaction march = new TransactionBuilder(NUS).withDateTime("01-03-2023 00:00").build();
+        transactionList.add(january);
+        transactionList.add(january);
+        transactionList.setTransaction(january, march);
+
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<Transaction> inJanuary = transactionList.getTransactionsBetween(start, start.plusMonths(1));
+        assertEquals(1, inJanuary.size());
+        assertNotEquals(january.getId(), inJanuary.get(0).getId());
+        assertEquals(List.of(march), transactionList.getTransactionsBetween(start.plusMonths(2),
+                start.plusMonths(3)));
+
+        transactionList.remove(inJanuary.get(0));
+        assertEquals(List.of(), transactionList.getTransactionsBetween(start, start.plusMonths(1)));
+    }
+
+    @Test
+    public void getTransactionsBetween_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.getTransactionsBetween(null,
+                LocalDateTime.now()));
+    }
+
+    @Test
+    public void getTotalAmountCents_typeDateAndCategory_matchingAmountsSummed() {
+        transactionList.add(new TransactionBuilder(NUS).withType("expense").withAmount(1.25)
+                .withDateTime("01-01-2023 00:00").withCategories("food").build());
+        transactionList.add(new TransactionBuilder(NUS).withType("expense").withAmount(2.50)
+                .withDateTime("31-01-2023 23:59").withCategories("food", "social").build());
+        transactionList.add(new TransactionBuilder(NUS).withType("income").withAmount(100)
+                .withDateTime("15-01-2023 12:00").withCategories("food").build());
+        transactionList.add(new TransactionBuilder(NUS).withType("expense").withAmount(8)
+                .withDateTime("01-02-2023 00:00").withCategories("food").build());
+
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 2, 1, 0, 0);
+
+        assertEquals(375, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end, null));
+        assertEquals(10000, transactionList.getTotalAmountCents(TransactionType.INCOME, start, end, null));
+        assertEquals(250, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end,
+                new Category("Social")));
+        assertEquals(0, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end,
+                new Category("travel")));
+
+        // a start part way through a minute leaves that minute out
+        assertEquals(250, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start.plusSeconds(1),
+                end, null));
+    }
+
+    @Test
+    public void getTotalAmountCents_afterEditsAndRemovals_reflectsCurrentTransactions() {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 2, 1, 0, 0);
+        Transaction first = new TransactionBuilder(NUS).withType("expense").withAmount(1)
+                .withDateTime("01-01-2023 00:00").build();
+        Transaction second = new TransactionBuilder(NUS).withType("expense").withAmount(2)
+                .withDateTime("02-01-2023 00:00").build();
+        Transaction third = new TransactionBuilder(NUS).withType("expense").withAmount(4)
+                .withDateTime("03-01-2023 00:00").build();
+        transactionList.setTransactions(List.of(first, second));
+        transactionList.addAllToFront(List.of(third));
+        assertEquals(700, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end, null));
+
+        transactionList.setTransaction(second, new TransactionBuilder(second).withAmount(16).build());
+        assertEquals(2100, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end, null));
+
+        transactionList.remove(third);
+        assertEquals(1700, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end, null));
+
+        TransactionList replacement = new TransactionList();
+        replacement.add(first);
+        transactionList.setTransactions(replacement);
+        assertEquals(100, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start, end, null));
+    }
+
+    @Test
+    public void getTotalAmountCents_manyCategories_eachCategoryCountedExactly() {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        for (int i = 0; i < 70; i++) {
+            transactionList.add(new TransactionBuilder(NUS).withType("expense").withAmount(i)
+                    .withDateTime("01-01-2023 00:00").withCategories("category" + i).build());
+        }
+
+        for (int i = 0; i < 70; i++) {
+            assertEquals(i * 100L, transactionList.getTotalAmountCents(TransactionType.EXPENSE, start,
+                    start.plusDays(1), new Category("category" + i)));
+        }
+    }
+
+    @Test
+    public void getTotalAmountCents_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.getTotalAmountCents(null,
+                LocalDateTime.now(), LocalDateTime.now(), null));
+    }
+
     @Test
     public void isFull() {
         transactionList.setTransactions(getMaxTransactionList());
@@ -142,6 +326,37 @@ public class TransactionListTest {
         assertFalse(transactionList.isFull());
     }
 
+    @Test
+    public void constructor_lowerMax_fullAtMax() {
+        TransactionList smallTransactionList = new TransactionList(2);
+        smallTransactionList.add(NUS);
+        assertFalse(smallTransactionList.isFull());
+        smallTransactionList.add(INTERN);
+        assertTrue(smallTransactionList.isFull());
+        assertThrows(MaxTransactionException.class, () -> smallTransactionList.add(SHOPPING));
+        assertThrows(MaxTransactionException.class, () ->
+                smallTransactionList.setTransactions(getTypicalTransactions()));
+        assertEquals(2, smallTransactionList.getMaxTransactions());
+
+        // other lists keep their own maximum
+        assertEquals(TransactionList.DEFAULT_MAX_TRANSACTIONS, transactionList.getMaxTransactions());
+    }
+
+    @Test
+    public void constructor_maxOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionList(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new TransactionList(TransactionList.MAX_TRANSACTIONS_LIMIT + 1));
+    }
+
+    @Test
+    public void getSizeConstraintsMessage() {
+        assertEquals("UniCa$h supports up to a maximum of 2 transactions.",
+                TransactionList.getSizeConstraintsMessage(2));
+        assertEquals("UniCa$h supports up to a maximum of 100,000 transactions.",
+                TransactionList.getSizeConstraintsMessage(TransactionList.DEFAULT_MAX_TRANSACTIONS));
+    }
+
     @Test
     public void setTransactions_nullTransactionList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.setTransactions((TransactionList) null));
@@ -176,6 +391,27 @@ public class TransactionListTest {
         assertDoesNotThrow(() -> transactionList.setTransactions(listWithDuplicateTransactions));
     }
 
+    @Test
+    public void addAllToFront_nonEmptyList_insertedInOrderBeforeExisting() {
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        transactionList.addAllToFront(Arrays.asList(NUS, BUYING_GROCERIES));
+
+        assertEquals(Arrays.asList(NUS, BUYING_GROCERIES, SHOPPING, INTERN),
+                transactionList.asUnmodifiableObservableList());
+
+        // Positions of the shifted transactions are kept up to date
+        transactionList.remove(INTERN);
+        transactionList.remove(NUS);
+        assertEquals(Arrays.asList(BUYING_GROCERIES, SHOPPING), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAllToFront_pastMaxTransactions_throwsMaxTransactionException() {
+        transactionList.setTransactions(getMaxTransactionList());
+        assertThrows(MaxTransactionException.class, () -> transactionList.addAllToFront(List.of(NUS)));
+    }
+
     @Test
     public void setTransactions_notMoreThanMaxTransactions_success() {
         List<Transaction> maxTransactions = getMaxTransactionList();
@@ -245,12 +481,12 @@ public class TransactionListTest {
         // EP 1 > 100000
         List<Transaction> transactionsList = getMaxTransactionList();
         transactionsList.add(NUS);
-        assertTrue(TransactionList.isMoreThanMax(transactionsList));
+        assertTrue(transactionList.isMoreThanMax(transactionsList));
 
         // EP 2 <= 100000
         transactionsList = getMaxTransactionList();
-        assertFalse(TransactionList.isMoreThanMax(transactionsList));
-        assertFalse(TransactionList.isMoreThanMax(getTypicalTransactions()));
+        assertFalse(transactionList.isMoreThanMax(transactionsList));
+        assertFalse(transactionList.isMoreThanMax(getTypicalTransactions()));
     }
 
     @Test
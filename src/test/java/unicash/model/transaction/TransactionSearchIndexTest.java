@@ -0,0 +1,141 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unicash.commons.util.StringUtil;
+import unicash.model.transaction.TransactionSearchIndex.Field;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionSearchIndexTest {
+
+    private static final Transaction LUNCH = new TransactionBuilder()
+            .withName("Chicken Rice")
+            .withLocation("Clementi Mall")
+            .withCategories("Food", "Social")
+            .build();
+    private static final Transaction BOOKS = new TransactionBuilder()
+            .withName("Textbooks")
+            .withLocation("NUS Coop")
+            .withCategories("Education")
+            .build();
+
+    private TransactionList transactionList;
+    private TransactionSearchIndex index;
+
+    @BeforeEach
+    public void init() {
+        transactionList = new TransactionList();
+        transactionList.setTransactions(List.of(LUNCH, BOOKS));
+        index = transactionList.getSearchIndex();
+    }
+
+    @Test
+    public void search_substringOfField_returnsMatchingIds() {
+        assertEquals(Set.of(LUNCH.getId()), index.search(Field.NAME, "kEn rI"));
+        assertEquals(Set.of(BOOKS.getId()), index.search(Field.LOCATION, "coop"));
+        assertEquals(Set.of(LUNCH.getId()), index.search(Field.CATEGORY, "soc"));
+    }
+
+    @Test
+    public void search_sharesTrigramsButNotSubstring_returnsEmpty() {
+        // "Chicken Rice" contains both "chi" and "ice", but not "chice"
+        assertEquals(Set.of(), index.search(Field.NAME, "chice"));
+    }
+
+    @Test
+    public void search_keywordAcrossCategories_returnsEmpty() {
+        assertEquals(Set.of(), index.search(Field.CATEGORY, "foodsocial"));
+    }
+
+    @Test
+    public void search_keywordShorterThanTrigram_verifiesEveryTransaction() {
+        assertEquals(Set.of(LUNCH.getId(), BOOKS.getId()), index.search(Field.NAME, "e"));
+        assertEquals(Set.of(BOOKS.getId()), index.search(Field.LOCATION, "op"));
+    }
+
+    @Test
+    public void search_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search(Field.NAME, " "));
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, "rice"));
+        assertThrows(NullPointerException.class, () -> index.search(Field.NAME, null));
+    }
+
+    @Test
+    public void search_afterEditAndRemove_reflectsCurrentTransactions() {
+        int modificationCount = index.getModificationCount();
+        Transaction dinner = new TransactionBuilder(LUNCH).withName("Duck Rice").build();
+        transactionList.setTransaction(LUNCH, dinner);
+
+        assertNotEquals(modificationCount, index.getModificationCount());
+        assertEquals(Set.of(), index.search(Field.NAME, "chicken"));
+        assertEquals(Set.of(dinner.getId()), index.search(Field.NAME, "duck"));
+
+        transactionList.remove(dinner);
+        assertEquals(Set.of(), index.search(Field.NAME, "rice"));
+        assertEquals(Set.of(), index.search(Field.CATEGORY, "food"));
+    }
+
+    @Test
+    public void search_valueSharedAfterRemove_returnsRemainingIds() {
+        Transaction dinner = new TransactionBuilder(LUNCH).withName("Duck Rice").build();
+        transactionList.add(dinner);
+        assertEquals(Set.of(LUNCH.getId(), dinner.getId()), index.search(Field.LOCATION, "clementi"));
+
+        transactionList.remove(LUNCH);
+        assertEquals(Set.of(dinner.getId()), index.search(Field.LOCATION, "clementi"));
+        assertEquals(Set.of(dinner.getId()), index.search(Field.CATEGORY, "food"));
+        assertEquals(Set.of(), index.search(Field.NAME, "chicken"));
+    }
+
+    @Test
+    public void search_turkishDefaultLocale_matchesIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Transaction internship = new TransactionBuilder().withName("INTERNSHIP").build();
+            transactionList.add(internship);
+            assertEquals(Set.of(internship.getId()), index.search(Field.NAME, "internship"));
+            assertTrue(StringUtil.containsSubstringIgnoreCase(internship.getName().fullName, "internship"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getChangesSince_recentChanges_returnsThemInOrder() {
+        int modificationCount = index.getModificationCount();
+        Transaction dinner = new TransactionBuilder(LUNCH).withName("Duck Rice").build();
+        transactionList.setTransaction(LUNCH, dinner);
+
+        List<TransactionSearchIndex.Change> changes = index.getChangesSince(modificationCount);
+        assertEquals(2, changes.size());
+        assertEquals(LUNCH, changes.get(0).transaction);
+        assertFalse(changes.get(0).isAdded);
+        assertEquals(dinner, changes.get(1).transaction);
+        assertTrue(changes.get(1).isAdded);
+        assertEquals(List.of(), index.getChangesSince(index.getModificationCount()));
+    }
+
+    @Test
+    public void getChangesSince_beforeClear_returnsNull() {
+        int modificationCount = index.getModificationCount();
+        transactionList.setTransactions(List.of(BOOKS));
+        assertNull(index.getChangesSince(modificationCount));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
@@ -23,6 +24,24 @@ public class TransactionTest {
         assertThrows(NullPointerException.class, () -> new Transaction(null, null, null, null, null, null));
     }
 
+    @Test
+    public void withId_differentId_sameDetails() {
+        Transaction copy = BUYING_GROCERIES.withId(TransactionId.generate());
+        assertNotEquals(BUYING_GROCERIES.getId(), copy.getId());
+        assertEquals(BUYING_GROCERIES, copy);
+    }
+
+    @Test
+    public void constructor_equalLocationsAndCategories_sharedInstances() {
+        Transaction first = new TransactionBuilder(BUYING_GROCERIES).withLocation("NTUC")
+                .withCategories("food", "groceries").build();
+        Transaction second = new TransactionBuilder(DINING_WITH_FRIENDS).withLocation("NTUC")
+                .withCategories("Groceries").build();
+
+        assertSame(first.getLocation(), second.getLocation());
+        assertSame(first.getCategories().asList().get(1), second.getCategories().asList().get(0));
+    }
+
     @Test
     public void getAmountAsDouble() {
         assertEquals(BUYING_GROCERIES.getAmountAsDouble(), 16.75);
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 import unicash.testutil.TransactionBuilder;
 
 
@@ -152,6 +153,64 @@ public class TransactionContainsAllKeywordsPredicateTest {
     }
 
 
+    @Test
+    public void using_searchIndex_matchesSameTransactionsAsTest() {
+        Transaction otherTransaction = new TransactionBuilder()
+                .withName("food court")
+                .withCategories("family")
+                .withLocation("clementi")
+                .build();
+        TransactionList transactionList = new TransactionList();
+        transactionList.setTransactions(List.of(testTransaction, otherTransaction));
+
+        TransactionContainsAllKeywordsPredicate localPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        localPredicate.addNameKeyword("foo");
+        localPredicate.addCategoryKeyword("soc");
+        Predicate<Transaction> indexedPredicate = localPredicate.using(transactionList.getSearchIndex());
+
+        assertTrue(indexedPredicate.test(testTransaction));
+        assertFalse(indexedPredicate.test(otherTransaction));
+
+        // results follow edits made to the indexed transactions
+        Transaction editedTransaction = new TransactionBuilder(otherTransaction)
+                .withCategories("social")
+                .build();
+        transactionList.setTransaction(otherTransaction, editedTransaction);
+        assertTrue(indexedPredicate.test(editedTransaction));
+        assertEquals(localPredicate.test(editedTransaction), indexedPredicate.test(editedTransaction));
+    }
+
+    @Test
+    public void using_transactionsAddedAndRemoved_matchesFollowChanges() {
+        TransactionList transactionList = new TransactionList();
+        transactionList.add(testTransaction);
+
+        TransactionContainsAllKeywordsPredicate localPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        localPredicate.addLocationKeyword("mcd");
+        Predicate<Transaction> indexedPredicate = localPredicate.using(transactionList.getSearchIndex());
+        assertTrue(indexedPredicate.test(testTransaction));
+
+        Transaction addedTransaction = new TransactionBuilder(testTransaction).withName("fries").build();
+        transactionList.add(addedTransaction);
+        assertTrue(indexedPredicate.test(addedTransaction));
+
+        transactionList.remove(testTransaction);
+        assertFalse(indexedPredicate.test(testTransaction));
+        assertTrue(indexedPredicate.test(addedTransaction));
+    }
+
+    @Test
+    public void using_emptyPredicateList_returnFalse() {
+        TransactionList transactionList = new TransactionList();
+        transactionList.add(testTransaction);
+
+        assertFalse(new TransactionContainsAllKeywordsPredicate()
+                .using(transactionList.getSearchIndex())
+                .test(testTransaction));
+    }
+
     @Test
     public void testTransaction_predicateListEmpty_returnFalse() {
         TransactionContainsAllKeywordsPredicate localPredicate =
@@ -0,0 +1,148 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.UniCashSnapshot;
+import unicash.testutil.TransactionBuilder;
+
+public class BackgroundUniCashSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundUniCashSaver(null));
+    }
+
+    @Test
+    public void save_nullUniCash_throwsNullPointerException() {
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(new JsonUniCashStorage(testFolder.resolve("a.json")));
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_changedAfterSave_writesDataAsOfSave() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(new JsonUniCashStorage(filePath));
+        UniCash original = getTypicalUniCash();
+        UniCash expected = new UniCash(original);
+
+        saver.save(original);
+        original.removeTransaction(INTERN);
+        saver.flush();
+
+        assertEquals(expected, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void save_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch burstDone = new CountDownLatch(1);
+        List<ReadOnlyUniCash> written = Collections.synchronizedList(new ArrayList<>());
+        UniCashStorage storage = new JsonUniCashStorage(testFolder.resolve("TempUniCash.json")) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    burstDone.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                written.add(uniCash);
+            }
+        };
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(storage);
+        UniCash uniCash = getTypicalUniCash();
+
+        saver.save(uniCash);
+        firstWriteStarted.await();
+        for (int i = 0; i < 5; i++) {
+            uniCash.addTransaction(new TransactionBuilder(NUS).withName("Burst " + i).build());
+            saver.save(uniCash);
+        }
+        burstDone.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(uniCash, new UniCash(written.get(1)));
+    }
+
+    @Test
+    public void save_storageCanSaveChanges_copiesDataOnlyAfterFailure() {
+        List<UniCashSnapshot> written = Collections.synchronizedList(new ArrayList<>());
+        boolean[] isFailing = {false};
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(
+                new JsonUniCashStorage(testFolder.resolve("TempUniCash.json")) {
+                    @Override
+                    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+                        written.add((UniCashSnapshot) uniCash);
+                        if (isFailing[0]) {
+                            throw new IOException("dummy IO exception");
+                        }
+                    }
+
+                    @Override
+                    public boolean canSaveChanges() {
+                        return true;
+                    }
+                });
+        UniCash uniCash = getTypicalUniCash();
+
+        saver.save(uniCash);
+        saver.flush();
+        uniCash.removeTransaction(INTERN);
+        saver.save(uniCash);
+        saver.flush();
+        isFailing[0] = true;
+        uniCash.removeTransaction(NUS);
+        saver.save(uniCash);
+        saver.flush();
+        isFailing[0] = false;
+        saver.save(uniCash);
+        saver.flush();
+
+        assertTrue(written.get(0).hasTransactions());
+        assertFalse(written.get(1).hasTransactions());
+        assertFalse(written.get(2).hasTransactions());
+        assertTrue(written.get(3).hasTransactions());
+        assertEquals(uniCash, new UniCash(written.get(3)));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_reportedToFailureHandler() {
+        IOException exception = new IOException("dummy IO exception");
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(
+                new JsonUniCashStorage(testFolder.resolve("TempUniCash.json")) {
+                    @Override
+                    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+                        throw exception;
+                    }
+                });
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(getTypicalUniCash());
+        saver.flush();
+
+        assertEquals(List.of(exception), failures);
+    }
+}
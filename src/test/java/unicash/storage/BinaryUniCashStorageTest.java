@@ -0,0 +1,165 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
+
+public class BinaryUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readUniCash_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryUniCashStorage(testFolder).readUniCash(null));
+    }
+
+    @Test
+    public void readUniCash_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryUniCashStorage(testFolder.resolve("NonExistentFile.bin")).readUniCash().isPresent());
+    }
+
+    @Test
+    public void readAndSaveUniCash_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        UniCash original = getTypicalUniCash();
+        original.removeTransaction(INTERN);
+
+        storage.saveUniCash(original);
+        assertReadBackEquals(original, storage.readUniCash().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.addTransaction(INTERN);
+        original.removeTransaction(BUYING_GROCERIES);
+        original.setBudget(MONTHLY);
+        storage.saveUniCash(original);
+        assertReadBackEquals(original, storage.readUniCash().get());
+    }
+
+    @Test
+    public void readUniCash_sharedLocationsAndCategories_sameInstances() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        UniCash original = getTypicalUniCash();
+        new BinaryUniCashStorage(filePath).saveUniCash(original);
+
+        ReadOnlyUniCash readBack = new BinaryUniCashStorage(filePath).readUniCash().get();
+        for (Transaction first : readBack.getTransactionList()) {
+            for (Transaction second : readBack.getTransactionList()) {
+                if (first.getLocation().equals(second.getLocation())) {
+                    assertTrue(first.getLocation() == second.getLocation());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void readUniCash_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        new JsonUniCashStorage(filePath).saveUniCash(getTypicalUniCash());
+        assertThrows(DataLoadingException.class, () -> new BinaryUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void readUniCash_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BinaryUniCashStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryUniCashStorage.FORMAT_VERSION + 1);
+        }
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void readUniCash_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        new BinaryUniCashStorage(filePath).saveUniCash(getTypicalUniCash());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        Path binaryFilePath = BinaryUniCashStorage.getBinaryFilePath(jsonFilePath);
+        Path convertedFilePath = testFolder.resolve("Converted.json");
+        UniCash original = getTypicalUniCash();
+        original.setBudget(MONTHLY);
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(original);
+
+        BinaryUniCashStorage.convertFromJson(jsonFilePath, binaryFilePath);
+        assertReadBackEquals(original, new BinaryUniCashStorage(binaryFilePath).readUniCash().get());
+
+        BinaryUniCashStorage.convertToJson(binaryFilePath, convertedFilePath);
+        assertReadBackEquals(original, new JsonUniCashStorage(convertedFilePath).readUniCash().get());
+    }
+
+    @Test
+    public void convertFromJson_missingJsonFile_nothingWritten() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage.convertFromJson(testFolder.resolve("NonExistentFile.json"), binaryFilePath);
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void convertedFromJson_jsonFile_convertedToBinary() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(original);
+
+        UniCashStorage storage = BinaryUniCashStorage.convertedFromJson(jsonFilePath);
+        assertTrue(storage instanceof BinaryUniCashStorage);
+        assertEquals(BinaryUniCashStorage.getBinaryFilePath(jsonFilePath), storage.getUniCashFilePath());
+        assertReadBackEquals(original, storage.readUniCash().get());
+    }
+
+    @Test
+    public void convertedFromJson_invalidJsonFile_jsonFileKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        Files.writeString(jsonFilePath, "not json");
+
+        UniCashStorage storage = BinaryUniCashStorage.convertedFromJson(jsonFilePath);
+        assertTrue(storage instanceof JsonUniCashStorage);
+        assertEquals(jsonFilePath, storage.getUniCashFilePath());
+        assertFalse(Files.exists(BinaryUniCashStorage.getBinaryFilePath(jsonFilePath)));
+        assertThrows(DataLoadingException.class, storage::readUniCash);
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryUniCashStorage(testFolder.resolve("TempUniCash.bin")).saveUniCash(null));
+    }
+
+    /**
+     * Asserts that {@code readBack} holds the same data as {@code expected}, including the transaction ids.
+     */
+    private static void assertReadBackEquals(UniCash expected, ReadOnlyUniCash readBack) {
+        assertEquals(expected, new UniCash(readBack));
+        for (int i = 0; i < expected.getTransactionList().size(); i++) {
+            assertEquals(expected.getTransactionList().get(i).getId(), readBack.getTransactionList().get(i).getId());
+        }
+    }
+}
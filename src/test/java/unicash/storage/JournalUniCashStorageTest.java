@@ -0,0 +1,296 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.DAILY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.JsonUtil;
+import unicash.model.UniCash;
+import unicash.model.UniCashSnapshot;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class JournalUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempUniCash.json");
+        journalPath = JournalUniCashStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readUniCash_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalUniCashStorage(filePath).readUniCash(null));
+    }
+
+    @Test
+    public void readUniCash_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalUniCashStorage(filePath).readUniCash().isPresent());
+    }
+
+    @Test
+    public void saveUniCash_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        Transaction editedNus = new TransactionBuilder(NUS).withName("Edited").build().withId(NUS.getId());
+        original.setTransaction(NUS, editedNus);
+        original.removeTransaction(INTERN);
+        original.addTransaction(new TransactionBuilder(INTERN).withName("Readded").build());
+        original.setBudget(DAILY);
+        saved = save(storage, changesSince(original, saved));
+        assertFalse(saved.hasTransactions());
+
+        // Four changes and the commit entry ending them
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+
+        // Saving unchanged data appends nothing
+        save(storage, changesSince(original, saved));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveUniCash_budgetCleared_replayedWithoutBudget() throws Exception {
+        UniCash original = getTypicalUniCash();
+        original.setBudget(DAILY);
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+
+        original.clearBudget();
+        save(storage, changesSince(original, saved));
+
+        assertTrue(Files.exists(journalPath));
+        assertNull(new JournalUniCashStorage(filePath).readUniCash().get().getBudget());
+    }
+
+    @Test
+    public void saveUniCash_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath, 2);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+
+        original.removeTransaction(INTERN);
+        original.removeTransaction(BUYING_GROCERIES);
+        saved = save(storage, changesSince(original, saved));
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+
+        // Saves after a compaction start a new journal
+        original.addTransaction(INTERN);
+        save(storage, changesSince(original, saved));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_journalAlreadyInSnapshot_replayedWithoutDuplicates() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+        original.removeTransaction(INTERN);
+        original.addTransaction(new TransactionBuilder(NUS).withName("Added").build());
+        save(storage, changesSince(original, saved));
+
+        // Simulates a compaction interrupted after writing the snapshot but before deleting the journal
+        List<String> journal = Files.readAllLines(journalPath);
+        new JsonUniCashStorage(filePath).saveUniCash(original, filePath);
+        Path compactingPath = journalPath.resolveSibling(
+                journalPath.getFileName() + JournalUniCashStorage.COMPACTING_FILE_SUFFIX);
+        Files.write(compactingPath, journal);
+
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_incompleteLastEntry_skipped() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+        original.removeTransaction(INTERN);
+        save(storage, changesSince(original, saved));
+
+        Files.write(journalPath, "{\"operation\":\"ADD\",\"transac".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_uncommittedLastChanges_skipped() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+        original.removeTransaction(INTERN);
+        save(storage, changesSince(original, saved));
+
+        // Simulates a save of several changes interrupted before its commit entry was written
+        List<String> uncommitted = List.of(
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.remove(NUS.getId())),
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.remove(BUYING_GROCERIES.getId())));
+        Files.write(journalPath, uncommitted, StandardOpenOption.APPEND);
+
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_invalidEntry_throwsDataLoadingException() throws Exception {
+        new JournalUniCashStorage(filePath).saveUniCash(getTypicalUniCash());
+        Files.write(journalPath, List.of("{\"operation\":\"REMOVE\",\"id\":-1}", "{\"operation\":\"BUDGET\"}",
+                "{\"operation\":\"COMMIT\"}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournalUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void saveUniCash_transactionsReordered_rewritesSnapshot() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+        original.removeTransaction(INTERN);
+        saved = save(storage, changesSince(original, saved));
+        assertTrue(Files.exists(journalPath));
+
+        List<Transaction> reversed = new ArrayList<>(original.getTransactionList());
+        Collections.reverse(reversed);
+        original.setTransactions(reversed);
+        assertTrue(UniCashSnapshot.ofChangesSince(original, saved.getChangeCount()).isEmpty());
+        save(storage, new UniCashSnapshot(original));
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_changesPartlySavedBefore_onlyUnsavedChangesAppended() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath);
+        UniCashSnapshot first = save(storage, new UniCashSnapshot(original));
+        original.removeTransaction(INTERN);
+        save(storage, changesSince(original, first));
+
+        // The changes since the first snapshot include the one already in the journal
+        original.removeTransaction(NUS);
+        save(storage, changesSince(original, first));
+
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_changesWithoutSavedData_throwsIoException() throws Exception {
+        UniCash original = getTypicalUniCash();
+        UniCashSnapshot first = new UniCashSnapshot(original);
+        original.removeTransaction(INTERN);
+
+        assertThrows(IOException.class, JournalUniCashStorage.MESSAGE_UNKNOWN_BASE, () ->
+                new JournalUniCashStorage(filePath).saveUniCash(changesSince(original, first)));
+    }
+
+    @Test
+    public void saveUniCash_leftoverCompactingJournal_foldedInBeforeCompacting() throws Exception {
+        UniCash original = getTypicalUniCash();
+        JournalUniCashStorage storage = new JournalUniCashStorage(filePath, 2);
+        UniCashSnapshot saved = save(storage, new UniCashSnapshot(original));
+
+        // Simulates a journal left set aside by a compaction which did not finish
+        Path compactingPath = journalPath.resolveSibling(
+                journalPath.getFileName() + JournalUniCashStorage.COMPACTING_FILE_SUFFIX);
+        Files.write(compactingPath, List.of(
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.remove(NUS.getId())),
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.commit())));
+
+        original.removeTransaction(INTERN);
+        original.removeTransaction(BUYING_GROCERIES);
+        save(storage, changesSince(original, saved));
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(compactingPath));
+        assertFalse(Files.exists(journalPath));
+        original.removeTransaction(NUS);
+        assertEquals(original, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_throughBackgroundSaver_appendedToJournal() throws Exception {
+        UniCash original = getTypicalUniCash();
+        BackgroundUniCashSaver saver = new BackgroundUniCashSaver(new JournalUniCashStorage(filePath));
+        saver.save(original);
+        saver.flush();
+
+        original.removeTransaction(INTERN);
+        saver.save(original);
+        original.setBudget(DAILY);
+        saver.save(original);
+        saver.flush();
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new UniCash(new JournalUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_otherFilePath_savedAsSnapshot() throws Exception {
+        Path otherPath = testFolder.resolve("Other.json");
+        UniCash original = getTypicalUniCash();
+        original.setBudget(new Budget(DAILY));
+        new JournalUniCashStorage(filePath).saveUniCash(original, otherPath);
+
+        assertFalse(Files.exists(JournalUniCashStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new UniCash(new JsonUniCashStorage(otherPath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalUniCashStorage(filePath).saveUniCash(null));
+    }
+
+    /**
+     * Returns a snapshot of just the changes made to {@code uniCash} since {@code previous} was taken of it.
+     */
+    private static UniCashSnapshot changesSince(UniCash uniCash, UniCashSnapshot previous) {
+        return UniCashSnapshot.ofChangesSince(uniCash, previous.getChangeCount()).get();
+    }
+
+    /**
+     * Saves {@code snapshot} to {@code storage} and returns it, for the next snapshot to follow.
+     */
+    private static UniCashSnapshot save(JournalUniCashStorage storage, UniCashSnapshot snapshot) throws Exception {
+        storage.saveUniCash(snapshot);
+        return snapshot;
+    }
+}
@@ -18,6 +18,7 @@ import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Location;
 import unicash.model.transaction.Name;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionId;
 import unicash.model.transaction.Type;
 import unicash.testutil.TransactionBuilder;
 
@@ -30,12 +31,12 @@ public class JsonAdaptedTransactionTest {
     private static final String INVALID_TYPE = "others";
 
     private static final String VALID_NAME = SHOPPING.getName().toString();
-    private static final double VALID_AMOUNT = SHOPPING.getAmount().amount;
+    private static final double VALID_AMOUNT = SHOPPING.getAmount().toDouble();
     private static final String VALID_DATETIME = SHOPPING.getDateTime().inputString();
     private static final String VALID_LOCATION = SHOPPING.getLocation().location;
     private static final String VALID_TYPE = SHOPPING.getType().toString();
     private static final List<JsonAdaptedCategory> VALID_CATEGORIES = SHOPPING.getCategories()
-            .asUnmodifiableObservableList()
+            .asList()
             .stream()
             .map(JsonAdaptedCategory::new)
             .collect(Collectors.toList());
@@ -46,6 +47,40 @@ public class JsonAdaptedTransactionTest {
         assertEquals(SHOPPING, transaction.toModelType());
     }
 
+    @Test
+    public void toModelType_validTransaction_retainsId() throws Exception {
+        var transaction = new JsonAdaptedTransaction(SHOPPING);
+        assertEquals(SHOPPING.getId(), transaction.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_generatesId() throws Exception {
+        var transaction = new JsonAdaptedTransaction(
+                VALID_NAME,
+                VALID_AMOUNT,
+                VALID_DATETIME,
+                VALID_LOCATION,
+                VALID_TYPE,
+                VALID_CATEGORIES
+        );
+        assertEquals(SHOPPING, transaction.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        var transaction = new JsonAdaptedTransaction(
+                0L,
+                VALID_NAME,
+                VALID_AMOUNT,
+                VALID_DATETIME,
+                VALID_LOCATION,
+                VALID_TYPE,
+                VALID_CATEGORIES
+        );
+        String expectedMessage = TransactionId.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         var transaction = new JsonAdaptedTransaction(
@@ -199,4 +234,67 @@ public class JsonAdaptedTransactionTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
     }
+
+    @Test
+    public void toModelTypes_manyTransactions_convertedInOrder() throws Exception {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            adaptedTransactions.add(new JsonAdaptedTransaction(new TransactionBuilder(SHOPPING)
+                    .withName("Transaction " + i).build()));
+        }
+
+        List<Transaction> transactions = JsonAdaptedTransaction.toModelTypes(adaptedTransactions);
+        assertEquals(adaptedTransactions.size(), transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            assertEquals("Transaction " + i, transactions.get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void toModelTypes_missingIds_generatedInOrder() throws Exception {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            adaptedTransactions.add(new JsonAdaptedTransaction(VALID_NAME, VALID_AMOUNT, VALID_DATETIME,
+                    VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+        }
+
+        List<Transaction> transactions = JsonAdaptedTransaction.toModelTypes(adaptedTransactions);
+        for (int i = 1; i < transactions.size(); i++) {
+            assertEquals(transactions.get(i - 1).getId().id + 1, transactions.get(i).getId().id);
+        }
+    }
+
+    @Test
+    public void toModelTypes_severalInvalidTransactions_firstInvalidReported() {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            adaptedTransactions.add(new JsonAdaptedTransaction(SHOPPING));
+        }
+        adaptedTransactions.set(4000, new JsonAdaptedTransaction(0L, VALID_NAME, VALID_AMOUNT, VALID_DATETIME,
+                VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+        adaptedTransactions.set(3000, new JsonAdaptedTransaction(VALID_NAME, VALID_AMOUNT, INVALID_DATETIME,
+                VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+        adaptedTransactions.set(2000, new JsonAdaptedTransaction(INVALID_NAME, VALID_AMOUNT, VALID_DATETIME,
+                VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                    JsonAdaptedTransaction.toModelTypes(adaptedTransactions));
+        }
+    }
+
+    @Test
+    public void toModelTypes_invalidIdBeforeOtherInvalidTransaction_invalidIdReported() {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            adaptedTransactions.add(new JsonAdaptedTransaction(SHOPPING));
+        }
+        adaptedTransactions.set(1000, new JsonAdaptedTransaction(0L, VALID_NAME, VALID_AMOUNT, VALID_DATETIME,
+                VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+        adaptedTransactions.set(2000, new JsonAdaptedTransaction(INVALID_NAME, VALID_AMOUNT, VALID_DATETIME,
+                VALID_LOCATION, VALID_TYPE, VALID_CATEGORIES));
+
+        assertThrows(IllegalValueException.class, TransactionId.MESSAGE_CONSTRAINTS, () ->
+                JsonAdaptedTransaction.toModelTypes(adaptedTransactions));
+    }
 }
@@ -2,25 +2,36 @@ package unicash.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.JsonUtil;
+import unicash.model.PartialUniCash;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
 
 public class JsonUniCashStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonUniCashStorageTest");
 
+    // Enough transactions to be read and converted in several chunks
+    private static final int MANY_TRANSACTIONS_COUNT = 20000;
+
     @TempDir
     public Path testFolder;
 
@@ -84,6 +95,98 @@ public class JsonUniCashStorageTest {
 
     }
 
+    @Test
+    public void readUniCash_manyTransactions_allInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getManyTransactionsUniCash();
+        new JsonUniCashStorage(filePath).saveUniCash(original);
+
+        assertEquals(original, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_invalidTransactionInLaterChunk_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        new JsonUniCashStorage(filePath).saveUniCash(getManyTransactionsUniCash());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replace("\"Lunch " + (MANY_TRANSACTIONS_COUNT - 1) + "\"", "\"$\""));
+
+        assertThrows(DataLoadingException.class, () -> new JsonUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void saveUniCash_withBudget_readableAsJsonSerializableUniCash() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        original.setBudget(MONTHLY);
+
+        new JsonUniCashStorage(filePath).saveUniCash(original);
+
+        JsonSerializableUniCash readBack = JsonUtil.readJsonFile(filePath, JsonSerializableUniCash.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void readUniCash_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Files.writeString(filePath, "{ \"version\" : { \"major\" : [ 1, 3 ] }, \"transactions\" : [ ],"
+                + " \"budget\" : null, \"extra\" : \"value\" }");
+
+        assertEquals(new UniCash(), new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        new JsonUniCashStorage(filePath).saveUniCash(getTypicalUniCash());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void readUniCash_emptyFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Files.createFile(filePath);
+
+        assertThrows(DataLoadingException.class, () -> new JsonUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void readPartialUniCash_olderTransactions_deferred() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        original.setBudget(MONTHLY);
+        new JsonUniCashStorage(filePath).saveUniCash(original);
+        List<Transaction> transactions = original.getTransactionList();
+        int size = transactions.size();
+
+        PartialUniCash partial = new JsonUniCashStorage(filePath).readPartialUniCash(2).get();
+        assertFalse(partial.isFullyLoaded());
+        assertEquals(transactions.subList(size - 2, size), partial.loadedData.getTransactionList());
+        assertEquals(MONTHLY, partial.loadedData.getBudget());
+        assertEquals(size - 2, partial.deferredTransactions.size());
+        assertEquals(transactions.subList(0, size - 2), partial.deferredTransactions.load(0, size - 2));
+    }
+
+    @Test
+    public void readPartialUniCash_fewerTransactionsThanCount_fullyLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        new JsonUniCashStorage(filePath).saveUniCash(original);
+
+        PartialUniCash partial = new JsonUniCashStorage(filePath).readPartialUniCash(Integer.MAX_VALUE).get();
+        assertTrue(partial.isFullyLoaded());
+        assertEquals(original, new UniCash(partial.loadedData));
+    }
+
+    @Test
+    public void readPartialUniCash_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonUniCashStorage(testFolder.resolve("NonExistentFile.json")).readPartialUniCash(1)
+                .isPresent());
+    }
+
     @Test
     public void saveUniCash_nullUniCash_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUniCash(null, "SomeFile.json"));
@@ -104,4 +207,12 @@ public class JsonUniCashStorageTest {
     public void saveUniCash_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUniCash(new UniCash(), null));
     }
+
+    private static UniCash getManyTransactionsUniCash() {
+        UniCash uniCash = new UniCash();
+        for (int i = 0; i < MANY_TRANSACTIONS_COUNT; i++) {
+            uniCash.addTransaction(new TransactionBuilder().withName("Lunch " + i).build());
+        }
+        return uniCash;
+    }
 }
@@ -0,0 +1,230 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.PartialUniCash;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class PartitionedUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readUniCash_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new PartitionedUniCashStorage(getManifestPath()).readUniCash(null));
+    }
+
+    @Test
+    public void readUniCash_missingManifest_emptyResult() throws Exception {
+        assertFalse(new PartitionedUniCashStorage(getManifestPath()).readUniCash().isPresent());
+        assertFalse(new PartitionedUniCashStorage(getManifestPath()).readPartialUniCash(1).isPresent());
+    }
+
+    @Test
+    public void readAndSaveUniCash_allInOrder_success() throws Exception {
+        PartitionedUniCashStorage storage = new PartitionedUniCashStorage(getManifestPath());
+        UniCash original = getTypicalUniCash();
+        original.removeTransaction(INTERN);
+
+        storage.saveUniCash(original);
+        assertReadBackEquals(original, new PartitionedUniCashStorage(getManifestPath()).readUniCash().get());
+
+        // Modify data, including a transaction dated before ones in other months, and read back
+        original.addTransaction(INTERN);
+        original.removeTransaction(NUS);
+        original.setBudget(MONTHLY);
+        storage.saveUniCash(original);
+        assertReadBackEquals(original, new PartitionedUniCashStorage(getManifestPath()).readUniCash().get());
+    }
+
+    @Test
+    public void saveUniCash_oneTransactionEdited_onlyItsPartitionRewritten() throws Exception {
+        UniCash original = getTypicalUniCash();
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(original);
+        Set<String> filesBefore = getPartitionFileNames();
+
+        // A new session reads the data, then edits the 2001 transaction
+        PartitionedUniCashStorage storage = new PartitionedUniCashStorage(getManifestPath());
+        UniCash edited = new UniCash(storage.readUniCash().get());
+        Transaction diningWithFriends = edited.getTransactionList().get(1);
+        edited.setTransaction(diningWithFriends, new TransactionBuilder(diningWithFriends).withAmount(1).build());
+        storage.saveUniCash(edited);
+
+        Set<String> filesAfter = getPartitionFileNames();
+        assertEquals(Set.of("2001-08.0.json"), difference(filesBefore, filesAfter));
+        assertEquals(Set.of("2001-08.1.json"), difference(filesAfter, filesBefore));
+        assertReadBackEquals(edited, new PartitionedUniCashStorage(getManifestPath()).readUniCash().get());
+    }
+
+    @Test
+    public void saveUniCash_unchangedData_nothingRewritten() throws Exception {
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(getTypicalUniCash());
+        long manifestModified = Files.getLastModifiedTime(getManifestPath()).toMillis();
+        Set<String> filesBefore = getPartitionFileNames();
+
+        PartitionedUniCashStorage storage = new PartitionedUniCashStorage(getManifestPath());
+        storage.saveUniCash(new UniCash(storage.readUniCash().get()));
+
+        assertEquals(filesBefore, getPartitionFileNames());
+        assertEquals(manifestModified, Files.getLastModifiedTime(getManifestPath()).toMillis());
+    }
+
+    @Test
+    public void saveUniCash_monthEmptied_partitionDeleted() throws Exception {
+        PartitionedUniCashStorage storage = new PartitionedUniCashStorage(getManifestPath());
+        UniCash original = getTypicalUniCash();
+        storage.saveUniCash(original);
+
+        original.removeTransaction(WORK_AT_LIHO);
+        storage.saveUniCash(original);
+
+        assertFalse(getPartitionFileNames().contains("2002-09.0.json"));
+        assertReadBackEquals(original, new PartitionedUniCashStorage(getManifestPath()).readUniCash().get());
+    }
+
+    @Test
+    public void readPartialUniCash_recentTransactions_olderOnesDeferred() throws Exception {
+        UniCash original = getTypicalUniCash();
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(original);
+
+        PartialUniCash partialUniCash = new PartitionedUniCashStorage(getManifestPath()).readPartialUniCash(2).get();
+        List<Transaction> expected = original.getTransactionList();
+        int deferredCount = expected.size() - 2;
+        assertEquals(deferredCount, partialUniCash.deferredTransactions.size());
+        assertEquals(expected.subList(deferredCount, expected.size()),
+                partialUniCash.loadedData.getTransactionList());
+
+        List<Transaction> loaded = new ArrayList<>(partialUniCash.deferredTransactions.load(1, deferredCount));
+        loaded.addAll(0, partialUniCash.deferredTransactions.load(0, 1));
+        assertEquals(expected.subList(0, deferredCount), loaded);
+    }
+
+    @Test
+    public void readUniCash_missingPartitionFile_throwsDataLoadingException() throws Exception {
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(getTypicalUniCash());
+        Files.delete(getManifestPath().resolveSibling("2001-08.0.json"));
+        assertThrows(DataLoadingException.class, () -> new PartitionedUniCashStorage(getManifestPath()).readUniCash());
+    }
+
+    @Test
+    public void readUniCash_orderDisagreesWithPartitions_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(getManifestPath().getParent());
+        Files.writeString(getManifestPath(), "{ \"partitions\": [ { \"month\": \"2001-08\", \"revision\": 0, "
+                + "\"size\": 2 } ], \"order\": [ { \"month\": \"2001-08\", \"count\": 1 } ] }");
+        assertThrows(DataLoadingException.class, () -> new PartitionedUniCashStorage(getManifestPath()).readUniCash());
+    }
+
+    @Test
+    public void saveUniCash_afterInterruptedSave_leftoverPartitionsDeleted() throws Exception {
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(getTypicalUniCash());
+        Path leftover = getManifestPath().resolveSibling("2001-08.7.json");
+        Files.writeString(leftover, "{}");
+
+        UniCash changed = getTypicalUniCash();
+        changed.removeTransaction(DINING_WITH_FRIENDS);
+        new PartitionedUniCashStorage(getManifestPath()).saveUniCash(changed);
+        assertFalse(Files.exists(leftover));
+    }
+
+    @Test
+    public void convertFromJson_jsonFile_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        original.setBudget(MONTHLY);
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(original);
+
+        Path manifestFilePath = PartitionedUniCashStorage.getManifestFilePath(jsonFilePath);
+        PartitionedUniCashStorage.convertFromJson(jsonFilePath, manifestFilePath);
+        assertReadBackEquals(original, new PartitionedUniCashStorage(manifestFilePath).readUniCash().get());
+        assertTrue(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void convertedFromJson_jsonFile_convertedToPartitions() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(original);
+
+        UniCashStorage storage = PartitionedUniCashStorage.convertedFromJson(jsonFilePath);
+        assertTrue(storage instanceof PartitionedUniCashStorage);
+        assertEquals(PartitionedUniCashStorage.getManifestFilePath(jsonFilePath), storage.getUniCashFilePath());
+        assertReadBackEquals(original, storage.readUniCash().get());
+    }
+
+    @Test
+    public void convertedFromJson_invalidJsonFile_jsonFileKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempUniCash.json");
+        Files.writeString(jsonFilePath, "not json");
+
+        UniCashStorage storage = PartitionedUniCashStorage.convertedFromJson(jsonFilePath);
+        assertTrue(storage instanceof JsonUniCashStorage);
+        assertEquals(jsonFilePath, storage.getUniCashFilePath());
+        assertFalse(Files.exists(PartitionedUniCashStorage.getManifestFilePath(jsonFilePath)));
+        assertThrows(DataLoadingException.class, storage::readUniCash);
+    }
+
+    @Test
+    public void convertFromJson_missingJsonFile_nothingWritten() throws Exception {
+        PartitionedUniCashStorage.convertFromJson(testFolder.resolve("NonExistentFile.json"), getManifestPath());
+        assertFalse(Files.exists(getManifestPath()));
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new PartitionedUniCashStorage(getManifestPath()).saveUniCash(null));
+    }
+
+    private Path getManifestPath() {
+        return PartitionedUniCashStorage.getManifestFilePath(testFolder.resolve("TempUniCash.json"));
+    }
+
+    private Set<String> getPartitionFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(getManifestPath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(PartitionedUniCashStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> difference(Set<String> first, Set<String> second) {
+        return first.stream().filter(element -> !second.contains(element)).collect(Collectors.toSet());
+    }
+
+    /**
+     * Asserts that {@code readBack} holds the same data as {@code expected}, including the transaction ids.
+     */
+    private static void assertReadBackEquals(UniCash expected, ReadOnlyUniCash readBack) {
+        assertEquals(expected, new UniCash(readBack));
+        for (int i = 0; i < expected.getTransactionList().size(); i++) {
+            assertEquals(expected.getTransactionList().get(i).getId(), readBack.getTransactionList().get(i).getId());
+        }
+    }
+}
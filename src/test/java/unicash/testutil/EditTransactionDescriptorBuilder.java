@@ -38,7 +38,7 @@ public class EditTransactionDescriptorBuilder {
         descriptor.setDateTime(transaction.getDateTime());
         descriptor.setLocation(transaction.getLocation());
         descriptor.setType(transaction.getType());
-        descriptor.setCategories(transaction.getCategories());
+        descriptor.setCategories(transaction.getCategories().toUniqueCategoryList());
     }
 
     /**
@@ -52,7 +52,7 @@ public class TransactionBuilder {
         dateTime = transactionToCopy.getDateTime();
         location = transactionToCopy.getLocation();
         type = transactionToCopy.getType();
-        categories = transactionToCopy.getCategories();
+        categories = transactionToCopy.getCategories().toUniqueCategoryList();
     }
 
     /**
@@ -90,7 +90,7 @@ public class TypicalTransactions {
     public static List<Transaction> getMaxTransactionList() {
         List<Transaction> transactionList = new ArrayList<>();
         Transaction validTransaction = new TransactionBuilder().build();
-        for (int i = 0; i < TransactionList.MAX_TRANSACTIONS; i++) {
+        for (int i = 0; i < TransactionList.DEFAULT_MAX_TRANSACTIONS; i++) {
             transactionList.add(validTransaction);
         }
 
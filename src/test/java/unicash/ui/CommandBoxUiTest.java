@@ -2,6 +2,8 @@ package unicash.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.api.FxRobot;
@@ -21,7 +23,7 @@ public class CommandBoxUiTest {
     @Start
     public void start(Stage stage) {
         CommandBox.CommandExecutor dummyExecutor = (commandText) -> {
-            return null; // A dummy implementation
+            return CompletableFuture.completedFuture(null); // A dummy implementation
         };
         commandBox = new CommandBox(dummyExecutor);
         stage.setScene(new Scene(commandBox.getRoot()));
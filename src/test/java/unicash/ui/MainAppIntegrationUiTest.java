@@ -3,6 +3,7 @@ package unicash.ui;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +22,8 @@ import unicash.MainApp;
 @ExtendWith(ApplicationExtension.class)
 public class MainAppIntegrationUiTest {
 
+    private static final int COMMAND_TIMEOUT_SECONDS = 10;
+
     @TempDir
     Path tempDir;
 
@@ -47,8 +50,10 @@ public class MainAppIntegrationUiTest {
         robot.clickOn("#commandBoxPlaceholder");
         robot.write("help");
         robot.press(KeyCode.ENTER);
-        var afterHelp = robot.lookup("#helpMessageContainer").tryQuery();
-        assertTrue(afterHelp.isPresent());
+
+        // Commands run in the background, so the window appears some time after the command is entered
+        WaitForAsyncUtils.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS, () ->
+                robot.lookup("#helpMessageContainer").tryQuery().isPresent());
     }
 
     /**
@@ -61,8 +66,10 @@ public class MainAppIntegrationUiTest {
         robot.clickOn("#commandBoxPlaceholder");
         robot.write("summary");
         robot.press(KeyCode.ENTER);
-        var afterSummary = robot.lookup("#summaryMessageContainer").tryQuery();
-        assertTrue(afterSummary.isPresent());
+
+        // Commands run in the background, so the window appears some time after the command is entered
+        WaitForAsyncUtils.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS, () ->
+                robot.lookup("#summaryMessageContainer").tryQuery().isPresent());
     }
 
 }
@@ -0,0 +1,158 @@
+package unicash.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ReversedListTest {
+
+    private ObservableList<String> source;
+    private ReversedList<String> reversedList;
+    private List<ListChangeListener.Change<? extends String>> changes;
+
+    // Kept in step with reversedList solely through the changes it reports
+    private List<String> replayed;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        reversedList = new ReversedList<>(source);
+        changes = new ArrayList<>();
+        replayed = new ArrayList<>(reversedList);
+        reversedList.addListener((ListChangeListener<String>) change -> {
+            changes.add(change);
+            replay(change);
+        });
+    }
+
+    @Test
+    public void get_sourceReversed() {
+        assertEquals(List.of("e", "d", "c", "b", "a"), reversedList);
+        assertEquals(4, reversedList.getSourceIndex(0));
+        assertEquals(0, reversedList.getViewIndex(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> reversedList.get(5));
+    }
+
+    @Test
+    public void sourceChanged_appended_addedAtFront() {
+        source.add("f");
+        assertChangesReplayed();
+
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasAdded() && !change.wasRemoved());
+        assertEquals(0, change.getFrom());
+        assertEquals(1, change.getTo());
+    }
+
+    @Test
+    public void sourceChanged_replaced_onlyThatItemReplaced() {
+        source.set(1, "x");
+        assertChangesReplayed();
+
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(3, change.getFrom());
+        assertEquals(4, change.getTo());
+        assertEquals(List.of("b"), change.getRemoved());
+    }
+
+    @Test
+    public void sourceChanged_addsAndRemovesAnywhere_changesReplayed() {
+        source.remove(2);
+        assertChangesReplayed();
+        source.addAll(0, List.of("x", "y"));
+        assertChangesReplayed();
+        source.remove(1, 4);
+        assertChangesReplayed();
+        source.addAll(List.of("p", "q", "r"));
+        assertChangesReplayed();
+        source.setAll("m", "n");
+        assertChangesReplayed();
+        source.clear();
+        assertChangesReplayed();
+    }
+
+    @Test
+    public void sourceChanged_severalRemovalsInOneChange_changesReplayed() {
+        source.addAll("f", "g", "h");
+        source.removeAll("b", "d", "e", "h");
+        assertChangesReplayed();
+    }
+
+    @Test
+    public void sourceChanged_permutated_changesReplayed() {
+        source.setAll("d", "a", "e", "c", "b");
+        source.sort(Comparator.naturalOrder());
+        assertChangesReplayed();
+        FXCollections.reverse(source);
+        assertChangesReplayed();
+    }
+
+    @Test
+    public void sourceChanged_updated_changesReplayed() {
+        ObservableList<StringProperty> properties = FXCollections.observableArrayList(
+                property -> new Observable[] {property});
+        properties.addAll(new SimpleStringProperty("a"), new SimpleStringProperty("b"));
+        ReversedList<StringProperty> reversedProperties = new ReversedList<>(properties);
+        List<Integer> updatedIndexes = new ArrayList<>();
+        reversedProperties.addListener((ListChangeListener<StringProperty>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        updatedIndexes.add(i);
+                    }
+                }
+            }
+        });
+
+        properties.get(0).set("c");
+        assertEquals(List.of(1), updatedIndexes);
+    }
+
+    /**
+     * Asserts that applying every change reported so far to a copy of the original view gives the current view.
+     */
+    private void assertChangesReplayed() {
+        List<String> expected = new ArrayList<>(source);
+        Collections.reverse(expected);
+        assertEquals(expected, reversedList);
+        assertEquals(expected, replayed);
+    }
+
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(replayed);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayed.get(i));
+                }
+                replayed.clear();
+                replayed.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                List<String> removed = replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                assertEquals(change.getRemoved(), removed);
+                removed.clear();
+                replayed.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
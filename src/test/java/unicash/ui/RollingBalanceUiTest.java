@@ -10,6 +10,7 @@ import static unicash.testutil.TestDataUtil.getTestTransactionsAsUserInputs;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +36,8 @@ import unicash.testutil.UserInputBuilder;
 @ExtendWith(ApplicationExtension.class)
 public class RollingBalanceUiTest {
 
+    private static final int COMMAND_TIMEOUT_SECONDS = 10;
+
     @TempDir
     Path tempDir;
 
@@ -87,6 +90,7 @@ public class RollingBalanceUiTest {
         }
 
         /* Format rolling balance string to account for negative values */
+        waitForText(rollingBalanceNodeLabel, formattedRollingBalanceLabel);
         assertEquals(rollingBalanceNodeLabel.getText(), formattedRollingBalanceLabel);
 
     }
@@ -150,9 +154,23 @@ public class RollingBalanceUiTest {
                     rollingBalance);
         }
 
+        waitForText(rollingBalanceNodeLabel, formattedRollingBalanceLabel);
         assertEquals(formattedRollingBalanceLabel, rollingBalanceNodeLabel.getText());
 
     }
 
+    /**
+     * Waits for the commands entered so far, which run in the background, to show
+     * {@code expectedText} in {@code label}. Gives up quietly after a while.
+     */
+    private static void waitForText(Label label, String expectedText) {
+        try {
+            WaitForAsyncUtils.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS, () ->
+                    label.getText().equals(expectedText));
+        } catch (TimeoutException e) {
+            // The assertion that follows reports the text shown instead
+        }
+    }
+
 }
 
@@ -1,14 +1,21 @@
 package unicash.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 
+import javafx.scene.chart.PieChart;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
 
@@ -36,4 +43,21 @@ public class SummaryWindowUiTest {
         assertTrue(summaryWindow.isShowing());
     }
 
+    @Test
+    public void setPieChart_orderChanges_slicesMovedAndInsertedInOrder(FxRobot robot) {
+        PieChart pieChart = robot.lookup("#pieChart").queryAs(PieChart.class);
+        robot.interact(() -> summaryWindow.setPieChart(new HashMap<>(Map.of("Food", 1.0, "Rent", 3.0))));
+        Map<String, PieChart.Data> slices = pieChart.getData().stream()
+                .collect(Collectors.toMap(PieChart.Data::getName, data -> data));
+
+        robot.interact(() -> summaryWindow.setPieChart(
+                new HashMap<>(Map.of("Food", 5.0, "Rent", 3.0, "Travel", 4.0))));
+
+        List<PieChart.Data> data = pieChart.getData();
+        assertEquals(List.of("Food", "Travel", "Rent"),
+                data.stream().map(PieChart.Data::getName).collect(Collectors.toList()));
+        assertSame(slices.get("Food"), data.get(0));
+        assertSame(slices.get("Rent"), data.get(2));
+        assertEquals(5.0, data.get(0).getPieValue());
+    }
 }
@@ -0,0 +1,173 @@
+package unicash.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.ui.StyleSheet.TRANSACTION_ID_SEPARATOR;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.api.FxRobot;
+import org.testfx.api.FxToolkit;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import com.sun.management.ThreadMXBean;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.input.KeyCode;
+import unicash.MainApp;
+import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
+import unicash.storage.JsonUniCashStorage;
+import unicash.testutil.TransactionBuilder;
+
+/**
+ * Scrolls through and deletes from a large transaction list, checking that list cells reuse their cards.
+ *
+ * </p> The frames rendered and the bytes allocated on the JavaFX application thread while
+ * scrolling are printed, so that the cost of scrolling can be compared between changes.
+ */
+@ExtendWith(ApplicationExtension.class)
+public class TransactionListScrollUiTest {
+
+    private static final int TRANSACTION_COUNT = 5000;
+    private static final int SCROLL_STEPS = 200;
+    private static final int COMMAND_TIMEOUT_SECONDS = 10;
+    private static final String[] CATEGORIES = {"food", "transport", "rent", "social", "shopping", "salary"};
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm");
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path dataFilePath = tempDir.resolve("ui_data.json");
+        new JsonUniCashStorage(dataFilePath).saveUniCash(getLargeUniCash());
+
+        FxToolkit.registerPrimaryStage();
+        FxToolkit.setupApplication(() -> new MainApp(dataFilePath));
+        FxToolkit.showStage();
+        WaitForAsyncUtils.waitForFxEvents(20);
+    }
+
+    @AfterEach
+    public void stopApp() throws TimeoutException {
+        FxToolkit.cleanupStages();
+    }
+
+    @Test
+    public void scroll_largeList_cardsReused(FxRobot robot) {
+        ListView<?> listView = robot.lookup("#transactionListView").queryAs(ListView.class);
+        assertEquals(TRANSACTION_COUNT, listView.getItems().size());
+
+        AtomicInteger frames = new AtomicInteger();
+        AnimationTimer frameCounter = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                frames.incrementAndGet();
+            }
+        };
+        long[] fxThreadId = new long[1];
+        robot.interact(() -> {
+            fxThreadId[0] = Thread.currentThread().getId();
+            frameCounter.start();
+        });
+
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<ListCell<?>, Node> cardsByCell = new IdentityHashMap<>();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(fxThreadId[0]);
+        long start = System.nanoTime();
+        for (int step = 0; step < SCROLL_STEPS; step++) {
+            int index = step * (TRANSACTION_COUNT / SCROLL_STEPS);
+            robot.interact(() -> listView.scrollTo(index));
+            robot.interact(() -> assertCardsReused(listView, cardsByCell));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(fxThreadId[0]) - allocatedBefore;
+        robot.interact(frameCounter::stop);
+
+        assertTrue(frames.get() > 0);
+        System.out.printf("Scrolled %d steps in %.1f ms over %d frames, allocating %.1f KB per frame%n",
+                SCROLL_STEPS, elapsedNanos / 1e6, frames.get(), allocated / 1024.0 / frames.get());
+    }
+
+    @Test
+    public void delete_largeList_cardsReusedAndRenumbered(FxRobot robot) throws TimeoutException {
+        ListView<?> listView = robot.lookup("#transactionListView").queryAs(ListView.class);
+        Map<ListCell<?>, Node> cardsByCell = new IdentityHashMap<>();
+        robot.interact(() -> assertCardsReused(listView, cardsByCell));
+        int cellCount = cardsByCell.size();
+
+        // Deletes the third Transaction shown, so the two shown above it are renumbered
+        robot.clickOn("#commandBoxPlaceholder");
+        robot.write("delete " + (TRANSACTION_COUNT - 2));
+        robot.press(KeyCode.ENTER);
+        WaitForAsyncUtils.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS, () ->
+                listView.getItems().size() == TRANSACTION_COUNT - 1);
+        WaitForAsyncUtils.waitForFxEvents(20);
+
+        robot.interact(() -> {
+            assertCardsReused(listView, cardsByCell);
+            assertEquals(cellCount, cardsByCell.size());
+            for (Node node : listView.lookupAll(".list-cell")) {
+                ListCell<?> cell = (ListCell<?>) node;
+                if (cell.isEmpty() || cell.getGraphic() == null) {
+                    continue;
+                }
+                Label id = (Label) cell.getGraphic().lookup("#id");
+                assertEquals((TRANSACTION_COUNT - 1 - cell.getIndex()) + TRANSACTION_ID_SEPARATOR, id.getText());
+            }
+        });
+    }
+
+    /**
+     * Asserts that every non-empty cell of {@code listView} shows the same card it showed before,
+     * and records the cards of cells not seen before in {@code cardsByCell}.
+     */
+    private static void assertCardsReused(ListView<?> listView, Map<ListCell<?>, Node> cardsByCell) {
+        for (Node node : listView.lookupAll(".list-cell")) {
+            ListCell<?> cell = (ListCell<?>) node;
+            if (cell.isEmpty() || cell.getGraphic() == null) {
+                continue;
+            }
+            Node card = cardsByCell.putIfAbsent(cell, cell.getGraphic());
+            if (card != null) {
+                assertSame(card, cell.getGraphic());
+            }
+        }
+    }
+
+    private static UniCash getLargeUniCash() {
+        UniCash uniCash = new UniCash();
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            Transaction transaction = new TransactionBuilder()
+                    .withName("Lunch " + i)
+                    .withType(i % 10 == 0 ? "income" : "expense")
+                    .withAmount(i % 10000 / 100.0)
+                    .withDateTime(start.plusHours(i).format(DATETIME_FORMATTER))
+                    .withCategories(CATEGORIES[i % CATEGORIES.length], CATEGORIES[(i + 1) % CATEGORIES.length])
+                    .build();
+            uniCash.addTransaction(transaction);
+        }
+        return uniCash;
+    }
+}